@@ -0,0 +1,119 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dao.BoardDao;
+import com.moge.moge.domain.board.dto.res.GetBoardSearchRes;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.moge.moge.global.util.Constants.BOARD_SEARCH_LIMIT;
+
+/**
+ * 제목 100 만 개가 들어있는 MySQL 에서 검색 경로 비교 (Docker 필요)
+ * like : BoardDao.getBoardByKeyword (색인이 준비되기 전의 경로)
+ * index : BoardSearchIndex.search + BoardDao.getBoardsByIdxList (현재 경로)
+ * ./gradlew jmh -Pjmh.includes=BoardLikeSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BoardLikeSearchBenchmark {
+
+    private static final int INSERT_CHUNK = 10000;
+
+    @Param({"문해력", "사자성어", "없는검색어"})
+    private String keyword;
+
+    private MySQLContainer<?> mysql;
+    private HikariDataSource dataSource;
+    private BoardDao boardDao;
+    private BoardSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        mysql = new MySQLContainer<>("mysql:8.0");
+        mysql.start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table User (userIdx int primary key, nickname varchar(45), profileImage varchar(255))");
+        jdbcTemplate.execute("create table Category (categoryIdx int primary key, categoryName varchar(45))");
+        jdbcTemplate.execute(
+                "create table Board (\n" +
+                "    boardIdx    int not null primary key,\n" +
+                "    userIdx     int not null,\n" +
+                "    categoryIdx int not null,\n" +
+                "    title       varchar(100) not null,\n" +
+                "    viewCount   int not null default 0,\n" +
+                "    status      varchar(10) not null default 'ACTIVE',\n" +
+                "    createdAt   timestamp not null default current_timestamp,\n" +
+                "    updatedAt   timestamp not null default current_timestamp\n" +
+                ")");
+        jdbcTemplate.execute(
+                "create table BoardStats (\n" +
+                "    boardIdx     int not null primary key,\n" +
+                "    likeCount    int not null default 0,\n" +
+                "    quizCount    int not null default 0,\n" +
+                "    commentCount int not null default 0\n" +
+                ")");
+        jdbcTemplate.update("insert into User values(1, 'writer', null)");
+        jdbcTemplate.update("insert into Category values(1, 'category')");
+
+        String[] titles = SyntheticTitles.generate(SyntheticTitles.COUNT, 42);
+        index = new BoardSearchIndex(null);
+        List<Object[]> batch = new ArrayList<>(INSERT_CHUNK);
+        for (int i = 0; i < titles.length; i++) {
+            index.add(i + 1, titles[i]);
+            batch.add(new Object[]{i + 1, titles[i]});
+            if (batch.size() == INSERT_CHUNK || i == titles.length - 1) {
+                jdbcTemplate.batchUpdate("insert into Board(boardIdx, userIdx, categoryIdx, title) values(?, 1, 1, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        boardDao = new BoardDao();
+        boardDao.setDataSource(dataSource);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public List<GetBoardSearchRes> like() {
+        return boardDao.getBoardByKeyword(keyword);
+    }
+
+    @Benchmark
+    public List<GetBoardSearchRes> index() {
+        List<Integer> boardIdxList = index.search(keyword, BOARD_SEARCH_LIMIT);
+        if (boardIdxList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return boardDao.getBoardsByIdxList(boardIdxList);
+    }
+}
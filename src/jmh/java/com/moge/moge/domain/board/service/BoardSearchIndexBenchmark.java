@@ -0,0 +1,76 @@
+package com.moge.moge.domain.board.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.moge.moge.global.util.Constants.BOARD_SEARCH_LIMIT;
+
+/**
+ * 제목 100 만 개에서 BoardSearchIndex.search 와 like '%keyword%' 방식(전체 제목을 훑으며 contains)을 비교
+ * DB 의 like 검색은 BoardLikeSearchBenchmark 에서 측정한다.
+ * ./gradlew jmh -Pjmh.includes=BoardSearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BoardSearchIndexBenchmark {
+
+    @Param({"문해력", "사자성어", "경제 용어", "법", "없는검색어"})
+    private String keyword;
+
+    private BoardSearchIndex index;
+    private String[] normalizedTitles;
+    private String normalizedKeyword;
+
+    @Setup
+    public void setUp() {
+        String[] titles = SyntheticTitles.generate(SyntheticTitles.COUNT, 42);
+        // catch-up 을 쓰지 않으므로 BoardDao 없이 add 로 직접 채움
+        index = new BoardSearchIndex(null);
+        normalizedTitles = new String[titles.length];
+        for (int i = 0; i < titles.length; i++) {
+            index.add(i + 1, titles[i]);
+            normalizedTitles[i] = normalize(titles[i]);
+        }
+        normalizedKeyword = normalize(keyword);
+    }
+
+    @Benchmark
+    public List<Integer> index() {
+        return index.search(keyword, BOARD_SEARCH_LIMIT);
+    }
+
+    /* like '%keyword%' 와 같은 방식 : 인덱스 없이 모든 제목을 확인 */
+    @Benchmark
+    public List<Integer> scan() {
+        List<Integer> result = new ArrayList<>();
+        for (int i = normalizedTitles.length - 1; i >= 0; i--) {
+            if (normalizedTitles[i].contains(normalizedKeyword)) {
+                result.add(i + 1);
+            }
+        }
+        return result;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,49 @@
+package com.moge.moge.domain.board.service;
+
+import java.util.Random;
+
+/**
+ * 검색 벤치마크용 게시글 제목 생성기
+ * 무작위 두 음절 단어 사이에 실제 검색어로 쓰일 단어를 정해진 빈도로 섞어, 같은 seed 면 항상 같은 제목 목록을 만든다.
+ */
+final class SyntheticTitles {
+
+    static final int COUNT = 1_000_000;
+
+    // 제목 100 개 중 몇 개에 들어가는지
+    private static final String[] KEYWORDS = {"문해력", "맞춤법", "사자성어", "경제 용어"};
+    private static final int[] KEYWORD_PERCENT = {5, 2, 1, 1};
+
+    private static final int HANGUL_BEGIN = 0xAC00;
+    private static final int HANGUL_COUNT = 11172;
+
+    private SyntheticTitles() {
+    }
+
+    static String[] generate(int count, long seed) {
+        Random random = new Random(seed);
+        String[] titles = new String[count];
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            title.setLength(0);
+            int words = 3 + random.nextInt(4);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    title.append(' ');
+                }
+                title.append(syllable(random)).append(syllable(random));
+            }
+            for (int k = 0; k < KEYWORDS.length; k++) {
+                if (random.nextInt(100) < KEYWORD_PERCENT[k]) {
+                    title.append(' ').append(KEYWORDS[k]);
+                }
+            }
+            titles[i] = title.toString();
+        }
+        return titles;
+    }
+
+    private static char syllable(Random random) {
+        return (char) (HANGUL_BEGIN + random.nextInt(HANGUL_COUNT));
+    }
+}
@@ -0,0 +1,94 @@
+package com.moge.moge.domain.quiz.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정답 키 answerCount 개를 미리 만들어 둔 SubjectiveAnswerMatcher 의 matches 비용
+ * exact : 공백만 다른 정답, typo : 긴 정답의 받침 하나 오타, miss : 어느 정답과도 다른 답 (모든 키와 비교)
+ * ./gradlew jmh -Pjmh.includes=SubjectiveAnswerMatcherBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubjectiveAnswerMatcherBenchmark {
+
+    private static final int HANGUL_BEGIN = 0xAC00;
+    private static final int HANGUL_COUNT = 11172;
+    private static final int JONGSEONG_COUNT = 28;
+
+    @Param({"1000", "5000"})
+    private int answerCount;
+
+    @Param({"true", "false"})
+    private boolean decomposeJamo;
+
+    private SubjectiveAnswerMatcher matcher;
+    private String exact;
+    private String typo;
+    private String miss;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> answers = new ArrayList<>(answerCount);
+        for (int i = 0; i < answerCount; i++) {
+            answers.add(word(random, 2 + random.nextInt(9)));
+        }
+        // 오타를 두 개까지 허용하는 10 글자 정답을 마지막에 둠 -> 오타 답은 앞의 키를 모두 거친 뒤 맞음
+        String longAnswer = word(random, 10);
+        answers.set(answerCount - 1, longAnswer);
+        matcher = new SubjectiveAnswerMatcher(answers, decomposeJamo, 2);
+
+        String shortAnswer = answers.get(0);
+        exact = shortAnswer.charAt(0) + " " + shortAnswer.substring(1);
+        typo = longAnswer.substring(0, 9) + changeJongseong(longAnswer.charAt(9));
+        miss = word(random, 6);
+    }
+
+    @Benchmark
+    public boolean exact() {
+        return matcher.matches(exact);
+    }
+
+    @Benchmark
+    public boolean typo() {
+        return matcher.matches(typo);
+    }
+
+    @Benchmark
+    public boolean miss() {
+        return matcher.matches(miss);
+    }
+
+    private static String word(Random random, int syllables) {
+        StringBuilder word = new StringBuilder(syllables);
+        for (int i = 0; i < syllables; i++) {
+            word.append((char) (HANGUL_BEGIN + random.nextInt(HANGUL_COUNT)));
+        }
+        return word.toString();
+    }
+
+    /* 받침만 다른 음절 (받침이 없으면 ㄱ 받침 추가) */
+    private static char changeJongseong(char syllable) {
+        int jongseong = (syllable - HANGUL_BEGIN) % JONGSEONG_COUNT;
+        return (char) (syllable - jongseong + (jongseong == 1 ? 2 : 1));
+    }
+}
@@ -4,12 +4,16 @@ import com.moge.moge.domain.board.dto.req.PatchBoardCommentReq;
 import com.moge.moge.domain.board.dto.req.PostBoardCommentReq;
 import com.moge.moge.domain.board.dto.req.PostBoardReportReq;
 import com.moge.moge.domain.board.dto.req.PostCommentReportReq;
+import com.moge.moge.domain.board.dto.res.GetBoardCommentsRes;
+import com.moge.moge.domain.board.dto.res.GetBoardPageRes;
 import com.moge.moge.domain.board.dto.res.GetBoardQuizAnswerRes;
 import com.moge.moge.domain.board.dto.res.GetBoardQuizRes;
-import com.moge.moge.domain.board.dto.res.GetBoardRes;
+import com.moge.moge.domain.board.dto.res.GetBoardQuizSessionRes;
+import com.moge.moge.domain.board.dto.res.GetCommentReplyPageRes;
+import com.moge.moge.domain.board.dto.res.PostBoardCommentRes;
+import com.moge.moge.domain.board.dto.res.PostLikeRes;
 import com.moge.moge.domain.board.service.BoardProvider;
 import com.moge.moge.domain.board.service.BoardService;
-import com.moge.moge.domain.board.model.res.GetBoardCommentRes;
 import com.moge.moge.domain.board.model.res.GetBoardSearchRes;
 import com.moge.moge.domain.board.model.res.GetBoardTopRes;
 import com.moge.moge.domain.board.model.res.GetRecommendKeywordRes;
@@ -21,12 +25,14 @@ import com.moge.moge.global.util.ValidationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.moge.moge.global.exception.BaseResponseStatus.*;
+import static com.moge.moge.global.util.Constants.DEFAULT_PAGE_SIZE;
 import static com.moge.moge.global.util.Constants.RECOMMEND_KEYWORD_SIZE;
 import static com.moge.moge.global.util.ValidationUtils.checkCommentNull;
 import static com.moge.moge.global.util.ValidationUtils.checkTitleNull;
@@ -75,6 +81,17 @@ public class BoardController {
         }
     }
 
+    /* 게시글별 퀴즈 풀이 세션 조회 : 퀴즈와 보기 전체 */
+    @ResponseBody
+    @GetMapping("/{boardIdx}/quiz/session")
+    public BaseResponse<GetBoardQuizSessionRes> getBoardQuizSession(@PathVariable("boardIdx") int boardIdx) {
+        try {
+            return new BaseResponse<>(boardProvider.getBoardQuizSession(boardIdx));
+        } catch (BaseException exception) {
+            return new BaseResponse<>((exception.getStatus()));
+        }
+    }
+
     /* 게시글별 퀴즈 정답 조회*/
     @ResponseBody
     @GetMapping("/{boardIdx}/quiz/{quizIdx}")
@@ -87,13 +104,16 @@ public class BoardController {
         }
     }
 
-    /* 카테고리별 게시글 조회 - 필터링 */
+    /* 카테고리별 게시글 조회 - 필터링, 커서 기반 페이지네이션 */
     @ResponseBody
     @GetMapping("/{categoryIdx}")
-    public BaseResponse<List<GetBoardRes>> getBoardsByCategoryIdx(@PathVariable("categoryIdx") int categoryIdx,
-                                                                  @RequestParam("order") int order) {
+    public BaseResponse<GetBoardPageRes> getBoardsByCategoryIdx(@PathVariable("categoryIdx") int categoryIdx,
+                                                                @RequestParam("order") int order,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
         try {
-            return new BaseResponse<>(boardProvider.getBoardsByCategoryIdx(categoryIdx, order));
+            int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : size;
+            return new BaseResponse<>(boardProvider.getBoardsByCategoryIdx(categoryIdx, order, cursor, pageSize, validationUtils.getViewerIdx()));
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
@@ -137,11 +157,10 @@ public class BoardController {
     /* 게시글 좋아요 등록, 취소 */
     @ResponseBody
     @PostMapping("/{boardIdx}/like")
-    public BaseResponse<String> createBoardLike(@PathVariable("boardIdx") int boardIdx) {
+    public BaseResponse<PostLikeRes> createBoardLike(@PathVariable("boardIdx") int boardIdx) {
         try {
             int userIdxByJwt = validationUtils.checkJwtTokenExists();
-            boardService.createBoardLike(boardIdx, userIdxByJwt);
-            return new BaseResponse<>(SUCCESS_CREATE_BOARD_LIKE);
+            return new BaseResponse<>(new PostLikeRes(boardService.createBoardLike(boardIdx, userIdxByJwt)));
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
@@ -164,13 +183,12 @@ public class BoardController {
     /* 댓글 생성 */
     @ResponseBody
     @PostMapping("/{boardIdx}/comments")
-    public BaseResponse<String> createBoardComment(@PathVariable("boardIdx") int boardIdx,
-                                                  @RequestBody PostBoardCommentReq postBoardCommentReq) {
+    public BaseResponse<PostBoardCommentRes> createBoardComment(@PathVariable("boardIdx") int boardIdx,
+                                                               @RequestBody PostBoardCommentReq postBoardCommentReq) {
         try {
             int userIdxByJwt = validationUtils.checkJwtTokenExists();
             checkCommentNull(postBoardCommentReq.getContent());
-            boardService.createBoardComment(postBoardCommentReq, boardIdx, userIdxByJwt);
-            return new BaseResponse<>(SUCCESS_CREATE_BOARD_COMMENT);
+            return new BaseResponse<>(boardService.createBoardComment(postBoardCommentReq, boardIdx, userIdxByJwt));
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
@@ -187,7 +205,7 @@ public class BoardController {
             if (userProvider.checkUserComment(userIdxByJwt, commentIdx, boardIdx) == 0) {
                 return new BaseResponse<>(POST_BOARDS_COMMENT_INVALID_JWT);
             }
-            boardService.updateBoardComment(patchBoardCommentReq, commentIdx);
+            boardService.updateBoardComment(patchBoardCommentReq, boardIdx, commentIdx);
             return new BaseResponse<>(SUCCESS_UPDATE_BOARD_COMMENT);
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
@@ -212,39 +230,50 @@ public class BoardController {
         }
     }
 
+    /* 댓글 실시간 구독 : 게시글을 보는 동안 댓글 작성 / 수정 / 삭제를 SSE 로 받음 (폴링 대신 사용) */
+    @GetMapping(value = "/{boardIdx}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getBoardCommentStream(@PathVariable("boardIdx") int boardIdx) {
+        return boardProvider.subscribeBoardComments(boardIdx);
+    }
+
     /* 댓글, 대댓글 좋아요 누르기 */
     @ResponseBody
     @PostMapping("/{boardIdx}/comments/{commentIdx}/like")
-    public BaseResponse<String> createCommentLike(@PathVariable("boardIdx") int boardIdx,
-                                                   @PathVariable("commentIdx") int commentIdx) {
+    public BaseResponse<PostLikeRes> createCommentLike(@PathVariable("boardIdx") int boardIdx,
+                                                       @PathVariable("commentIdx") int commentIdx) {
         try {
             int userIdxByJwt = validationUtils.checkJwtTokenExists();
-            boardService.createCommentLike(boardIdx, commentIdx, userIdxByJwt);
-            return new BaseResponse<>(SUCCESS_CREATE_BOARD_COMMENT_LIKE);
+            return new BaseResponse<>(new PostLikeRes(boardService.createCommentLike(boardIdx, commentIdx, userIdxByJwt)));
 
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
     }
 
-    /* 댓글 전체 조회 */
+    /* 댓글 조회 : 부모 댓글을 커서 단위로 조회하고, 각 댓글에 대댓글 수와 앞쪽 대댓글 일부를 포함 */
     @ResponseBody
     @GetMapping("/{boardIdx}/comments")
-    public BaseResponse<List<GetBoardCommentRes>> getBoardComments(@PathVariable("boardIdx") int boardIdx) {
+    public BaseResponse<GetBoardCommentsRes> getBoardComments(@PathVariable("boardIdx") int boardIdx,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer size) {
         try {
-            return new BaseResponse<>(boardProvider.getBoardComments(boardIdx));
+            int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : size;
+            return new BaseResponse<>(boardProvider.getBoardComments(boardIdx, cursor, pageSize, validationUtils.getViewerIdx()));
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
     }
 
-    /* 그룹 식별자로 해당 그룹의 댓글, 대댓글을 전체 조회 */
+    /* 그룹 식별자로 해당 그룹의 대댓글을 커서 단위로 이어서 조회 */
     @ResponseBody
     @GetMapping("/{boardIdx}/comments/group")
-    public BaseResponse<List<GetBoardCommentRes>> getBoardCommentsByGroup(@PathVariable("boardIdx") int boardIdx,
-                                                                   @RequestParam("groupIdx") int groupIdx) {
+    public BaseResponse<GetCommentReplyPageRes> getBoardCommentsByGroup(@PathVariable("boardIdx") int boardIdx,
+                                                                        @RequestParam("groupIdx") int groupIdx,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(required = false) Integer size) {
         try {
-            return new BaseResponse<>(boardProvider.getBoardCommentsByGroup(boardIdx, groupIdx));
+            int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : size;
+            return new BaseResponse<>(boardProvider.getBoardCommentsByGroup(boardIdx, groupIdx, cursor, pageSize, validationUtils.getViewerIdx()));
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
@@ -270,18 +299,7 @@ public class BoardController {
     @GetMapping("/search-keyword")
     public BaseResponse<List<GetRecommendKeywordRes>> getRecommendKeyword() {
         try {
-            int keywordCounts = boardProvider.getAllRecommendKeywordCounts();
-
-            List<Integer> randomIdxList = new ArrayList<>();
-            while(randomIdxList.size() < RECOMMEND_KEYWORD_SIZE) {
-                int randomNumber = (int)(Math.random() * keywordCounts + 1);
-                if (!randomIdxList.contains(randomNumber)) {
-                    randomIdxList.add(randomNumber);
-                } else {
-                    continue;
-                }
-            }
-            return new BaseResponse<>(boardProvider.getRecommendKeyword(randomIdxList));
+            return new BaseResponse<>(boardProvider.getRecommendKeyword(RECOMMEND_KEYWORD_SIZE));
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
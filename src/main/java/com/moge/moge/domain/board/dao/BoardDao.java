@@ -4,6 +4,7 @@ import com.moge.moge.domain.board.dto.req.PostBoardReportReq;
 import com.moge.moge.domain.board.dto.res.GetBoardQuizAnswerRes;
 import com.moge.moge.domain.board.dto.res.GetBoardQuizRes;
 import com.moge.moge.domain.board.dto.res.GetBoardRes;
+import com.moge.moge.domain.board.dto.res.PostBoardCommentRes;
 import com.moge.moge.domain.board.dto.req.PostCommentReportReq;
 import com.moge.moge.domain.board.model.res.GetBoardCommentRes;
 import com.moge.moge.domain.board.model.res.GetBoardSearchRes;
@@ -11,12 +12,28 @@ import com.moge.moge.domain.board.model.res.GetBoardTopRes;
 import com.moge.moge.domain.board.dto.req.PatchBoardCommentReq;
 import com.moge.moge.domain.board.dto.req.PostBoardCommentReq;
 import com.moge.moge.domain.board.model.res.GetRecommendKeywordRes;
+import com.moge.moge.global.common.Cursor;
+import com.moge.moge.global.util.StatusToggle;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.moge.moge.global.util.StatusToggle.TOGGLE_STATUS;
 
 @Repository
 public class BoardDao {
@@ -28,59 +45,47 @@ public class BoardDao {
         this.jdbcTemplate = new JdbcTemplate(dataSource);
     }
 
-    public int checkBoardExists(int boardIdx) {
-        String checkBoardExistsQuery = "select exists(select * from Board where boardIdx = ? and status = 'ACTIVE')";
-        return this.jdbcTemplate.queryForObject(checkBoardExistsQuery, int.class, boardIdx);
-    }
-
-    public int checkBoardLikeExists(int boardIdx, int userIdx) {
-        String checkBoardLikeExistsQuery = "select exists(select * from BoardLike where boardIdx =? and userIdx = ? and status = 'ACTIVE')";
-        Object[] params = new Object[]{boardIdx, userIdx};
-        return this.jdbcTemplate.queryForObject(checkBoardLikeExistsQuery, int.class, params);
+    /* 게시글이 없으면 null */
+    public String getBoardStatus(int boardIdx) {
+        String getBoardStatusQuery = "select status from Board where boardIdx = ?";
+        List<String> statuses = this.jdbcTemplate.queryForList(getBoardStatusQuery, String.class, boardIdx);
+        return statuses.isEmpty() ? null : statuses.get(0);
     }
 
-    public int createBoardLike(int boardIdx, int userIdx) {
-        String createBoardLikeQuery = "insert into BoardLike(boardIdx, userIdx) values(?, ?)";
-        Object[] params = new Object[]{boardIdx, userIdx};
-        return this.jdbcTemplate.update(createBoardLikeQuery, params);
+    /* 상태 캐시 적재용 : boardIdx 이후의 게시글 상태를 boardIdx 순서로 조회 */
+    public Map<Integer, String> getBoardStatuses(int boardIdx, int limit) {
+        String getBoardStatusesQuery = "select boardIdx, status from Board where boardIdx > ? order by boardIdx limit ?";
+        Object[] params = new Object[]{boardIdx, limit};
+        return this.jdbcTemplate.query(getBoardStatusesQuery, rs -> {
+            Map<Integer, String> statuses = new LinkedHashMap<>();
+            while (rs.next()) {
+                statuses.put(rs.getInt("boardIdx"), rs.getString("status"));
+            }
+            return statuses;
+        }, params);
     }
 
-    public int deleteBoardLike(int boardIdx, int userIdx) {
-        String deleteBoardLikeQuery = "update BoardLike set status = 'DELETE' where boardIdx =? and userIdx =?";
-        Object[] params = new Object[]{boardIdx, userIdx};
-        return this.jdbcTemplate.update(deleteBoardLikeQuery, params);
+    /* 좋아요 토글 : 처음 누르면 insert, 이미 있으면 status 를 반전. 토글 후 ACTIVE 이면 true */
+    public boolean toggleBoardLike(int boardIdx, int userIdx) {
+        String toggleBoardLikeQuery =
+                "insert into BoardLike(boardIdx, userIdx) values(?, ?)\n" +
+                "on duplicate key update " + TOGGLE_STATUS;
+        return StatusToggle.toggle(this.jdbcTemplate, toggleBoardLikeQuery, boardIdx, userIdx);
     }
 
-    public int checkBoardLikeStatus(int boardIdx, int userIdx) {
-        String checkBoardLikeStatus = "select exists(select * from BoardLike where boardIdx = ? and userIdx = ? and status = 'DELETE')";
-        Object[] params = new Object[]{boardIdx, userIdx};
-        return this.jdbcTemplate.queryForObject(checkBoardLikeStatus, int.class, params);
-    }
-
-    public int updateBoardLikeStatus(int boardIdx, int userIdx) {
-        String updateBoardLikeStatus = "update BoardLike set status = 'ACTIVE' where boardIdx = ? and userIdx =?";
-        Object[] params = new Object[]{boardIdx, userIdx};
-        return this.jdbcTemplate.update(updateBoardLikeStatus, params);
-    }
-
-    public List<GetBoardTopRes> getBoardTopLike() {
+    public List<GetBoardTopRes> getBoardTopLike(int limit) {
         String getBoardTopLikeQuery =
-                "select boardIdx, categoryName, nickname, profileImage, title, viewCount,\n" +
-                "\t(select count(*) from BoardLike BL where BL.boardIdx = B.boardIdx) as likeCount,\n" +
-                "    (select count(*) from Quiz Q where Q.boardIdx = B.boardIdx) as quizCount,\n" +
-                "    (select count(*) from Comment C where C.boardIdx = B.boardIdx) as commentCount,\n" +
-                "\tCASE\n" +
-                "\t\tWHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()), '분 전')\n" +
-                "        WHEN TIMESTAMPDIFF(HOUR, B.createdAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, B.createdAt, NOW()), '시간 전')\n" +
-                "        WHEN TIMESTAMPDIFF(DAY, B.createdAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, B.createdAt, NOW()), '일 전')\n" +
-                "        WHEN TIMESTAMPDIFF(WEEK, B.createdAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, B.createdAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, B.createdAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime'  \n" +
-                "from Board B\n" +
+                "select B.boardIdx, categoryName, nickname, profileImage, title, viewCount,\n" +
+                "    ifnull(BS.likeCount, 0) as likeCount,\n" +
+                "    ifnull(BS.quizCount, 0) as quizCount,\n" +
+                "    ifnull(BS.commentCount, 0) as commentCount,\n" +
+                "\tB.createdAt\n" +
+                "from BoardStats BS\n" +
+                "\tjoin Board B on B.boardIdx = BS.boardIdx\n" +
                 "\tleft join Category C on C.categoryIdx = B.categoryIdx\n" +
                 "\tleft join User U on B.userIdx = U.userIdx\n" +
-                "order by likeCount desc limit 10;";
+                "where B.status = 'ACTIVE'\n" +
+                "order by BS.likeCount desc, B.boardIdx desc limit ?";
 
         return this.jdbcTemplate.query(getBoardTopLikeQuery,
                 (rs, rowNum) -> new GetBoardTopRes(
@@ -93,28 +98,23 @@ public class BoardDao {
                         rs.getInt("commentCount"),
                         rs.getString("nickname"),
                         rs.getString("profileImage"),
-                        rs.getString("elapsedTime")
-                ));
+                        rs.getTimestamp("createdAt").toLocalDateTime()
+                ), limit);
     }
 
-    public List<GetBoardTopRes> getBoardTopView() {
+    public List<GetBoardTopRes> getBoardTopView(int limit) {
         String getBoardTopViewQuery =
-                "select boardIdx, categoryName, nickname, profileImage, title, viewCount,\n" +
-                "\t(select count(*) from BoardLike BL where BL.boardIdx = B.boardIdx) as likeCount,\n" +
-                "    (select count(*) from Quiz Q where Q.boardIdx = B.boardIdx) as quizCount,\n" +
-                "    (select count(*) from Comment C where C.boardIdx = B.boardIdx) as commentCount,\n" +
-                "\tCASE\n" +
-                "\t\tWHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()), '분 전')\n" +
-                "        WHEN TIMESTAMPDIFF(HOUR, B.createdAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, B.createdAt, NOW()), '시간 전')\n" +
-                "        WHEN TIMESTAMPDIFF(DAY, B.createdAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, B.createdAt, NOW()), '일 전')\n" +
-                "        WHEN TIMESTAMPDIFF(WEEK, B.createdAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, B.createdAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, B.createdAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime'  \n" +
+                "select B.boardIdx, categoryName, nickname, profileImage, title, viewCount,\n" +
+                "    ifnull(BS.likeCount, 0) as likeCount,\n" +
+                "    ifnull(BS.quizCount, 0) as quizCount,\n" +
+                "    ifnull(BS.commentCount, 0) as commentCount,\n" +
+                "\tB.createdAt\n" +
                 "from Board B\n" +
+                "\tleft join BoardStats BS on BS.boardIdx = B.boardIdx\n" +
                 "\tleft join Category C on C.categoryIdx = B.categoryIdx\n" +
                 "\tleft join User U on B.userIdx = U.userIdx\n" +
-                "order by viewCount desc limit 10";
+                "where B.status = 'ACTIVE'\n" +
+                "order by B.viewCount desc, B.boardIdx desc limit ?";
 
         return this.jdbcTemplate.query(getBoardTopViewQuery,
                 (rs, rowNum) -> new GetBoardTopRes(
@@ -127,25 +127,19 @@ public class BoardDao {
                         rs.getInt("commentCount"),
                         rs.getString("nickname"),
                         rs.getString("profileImage"),
-                        rs.getString("elapsedTime")
-                ));
+                        rs.getTimestamp("createdAt").toLocalDateTime()
+                ), limit);
     }
 
     public List<GetBoardSearchRes> getBoardByKeyword(String title) {
         String getBoardByKeywordQuery =
-                "select boardIdx, categoryName, nickname, profileImage, title, viewCount,\n" +
-                "\t(select count(*) from BoardLike BL where BL.boardIdx = B.boardIdx) as likeCount,\n" +
-                "    (select count(*) from Quiz Q where Q.boardIdx = B.boardIdx) as quizCount,\n" +
-                "    (select count(*) from Comment C where C.boardIdx = B.boardIdx) as commentCount,\n" +
-                "\tCASE\n" +
-                "\t\tWHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()), '분 전')\n" +
-                "        WHEN TIMESTAMPDIFF(HOUR, B.createdAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, B.createdAt, NOW()), '시간 전')\n" +
-                "        WHEN TIMESTAMPDIFF(DAY, B.createdAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, B.createdAt, NOW()), '일 전')\n" +
-                "        WHEN TIMESTAMPDIFF(WEEK, B.createdAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, B.createdAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, B.createdAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime'  \n" +
+                "select B.boardIdx, categoryName, nickname, profileImage, title, viewCount,\n" +
+                "    ifnull(BS.likeCount, 0) as likeCount,\n" +
+                "    ifnull(BS.quizCount, 0) as quizCount,\n" +
+                "    ifnull(BS.commentCount, 0) as commentCount,\n" +
+                "\tB.createdAt\n" +
                 "from Board B\n" +
+                "\tleft join BoardStats BS on BS.boardIdx = B.boardIdx\n" +
                 "\tleft join Category C on C.categoryIdx = B.categoryIdx\n" +
                 "\tleft join User U on B.userIdx = U.userIdx\n" +
                 "where B.title like concat('%', ?, '%')\n" +
@@ -162,20 +156,92 @@ public class BoardDao {
                         rs.getInt("commentCount"),
                         rs.getString("nickname"),
                         rs.getString("profileImage"),
-                        rs.getString("elapsedTime")
+                        rs.getTimestamp("createdAt").toLocalDateTime()
                 ), title);
     }
 
-    public int createBoardComment(PostBoardCommentReq postBoardCommentReq, int boardIdx, int userIdx) {
-        String createBoardCommentQuery = "insert into Comment(content, groupIdx, parentIdx, boardIdx, userIdx) values(?,?,?,?,?)";
-        Object[] params = new Object[]{postBoardCommentReq.getContent(), postBoardCommentReq.getGroupIdx(), postBoardCommentReq.getParentIdx(), boardIdx, userIdx};
-        return this.jdbcTemplate.update(createBoardCommentQuery, params);
-    }
-
-    public int checkCommentGroupIdx(int groupIdx) {
-        String checkCommentGroupIdxQuery = "select exists(select * from Comment where groupIdx = ? and status != 'DELETE')";
-        return this.jdbcTemplate.queryForObject(checkCommentGroupIdxQuery, int.class, groupIdx);
+    /* 검색 색인 생성용 : boardIdx 이후의 ACTIVE 게시글 제목을 boardIdx 순서로 조회 */
+    public Map<Integer, String> getActiveBoardTitles(int boardIdx, int limit) {
+        String getActiveBoardTitlesQuery = "select boardIdx, title from Board where boardIdx > ? and status = 'ACTIVE' order by boardIdx limit ?";
+        Object[] params = new Object[]{boardIdx, limit};
+        return this.jdbcTemplate.query(getActiveBoardTitlesQuery, rs -> {
+            Map<Integer, String> titles = new LinkedHashMap<>();
+            while (rs.next()) {
+                titles.put(rs.getInt("boardIdx"), rs.getString("title"));
+            }
+            return titles;
+        }, params);
+    }
+
+    public List<GetBoardSearchRes> getBoardsByIdxList(List<Integer> boardIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(boardIdxList.size(), "?"));
+        String getBoardsByIdxListQuery =
+                "select B.boardIdx, categoryName, nickname, profileImage, title, viewCount,\n" +
+                "    ifnull(BS.likeCount, 0) as likeCount,\n" +
+                "    ifnull(BS.quizCount, 0) as quizCount,\n" +
+                "    ifnull(BS.commentCount, 0) as commentCount,\n" +
+                "\tB.createdAt\n" +
+                "from Board B\n" +
+                "\tleft join BoardStats BS on BS.boardIdx = B.boardIdx\n" +
+                "\tleft join Category C on C.categoryIdx = B.categoryIdx\n" +
+                "\tleft join User U on B.userIdx = U.userIdx\n" +
+                "where B.boardIdx in (" + placeholders + ") and B.status = 'ACTIVE'\n" +
+                "order by B.updatedAt desc";
 
+        return this.jdbcTemplate.query(getBoardsByIdxListQuery,
+                (rs, rowNum) -> new GetBoardSearchRes(
+                        rs.getInt("boardIdx"),
+                        rs.getString("categoryName"),
+                        rs.getString("title"),
+                        rs.getInt("viewCount"),
+                        rs.getInt("likeCount"),
+                        rs.getInt("quizCount"),
+                        rs.getInt("commentCount"),
+                        rs.getString("nickname"),
+                        rs.getString("profileImage"),
+                        rs.getTimestamp("createdAt").toLocalDateTime()
+                ), boardIdxList.toArray());
+    }
+
+    /* 부모 댓글 : 생성된 commentIdx 를 그대로 groupIdx 로 사용 -> 클라이언트가 그룹을 고르지 않으므로 그룹이 겹치지 않음 */
+    public PostBoardCommentRes createParentComment(String content, int boardIdx, int userIdx) {
+        String createParentCommentQuery = "insert into Comment(content, groupIdx, parentIdx, boardIdx, userIdx) values(?, 0, 0, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(createParentCommentQuery, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, content);
+            statement.setInt(2, boardIdx);
+            statement.setInt(3, userIdx);
+            return statement;
+        }, keyHolder);
+        int commentIdx = keyHolder.getKey().intValue();
+
+        String updateGroupIdxQuery = "update Comment set groupIdx = commentIdx where commentIdx = ?";
+        this.jdbcTemplate.update(updateGroupIdxQuery, commentIdx);
+        return new PostBoardCommentRes(commentIdx, commentIdx);
+    }
+
+    /* 대댓글 : 같은 게시글에 삭제되지 않은 부모 댓글이 있을 때만 insert, 없으면 null */
+    public PostBoardCommentRes createReplyComment(String content, int boardIdx, int groupIdx, int userIdx) {
+        String createReplyCommentQuery =
+                "insert into Comment(content, groupIdx, parentIdx, boardIdx, userIdx)\n" +
+                "select ?, P.groupIdx, 1, P.boardIdx, ?\n" +
+                "from Comment P\n" +
+                "where P.boardIdx = ? and P.groupIdx = ? and P.parentIdx = 0 and P.status != 'DELETE'\n" +
+                "limit 1";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int result = this.jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(createReplyCommentQuery, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, content);
+            statement.setInt(2, userIdx);
+            statement.setInt(3, boardIdx);
+            statement.setInt(4, groupIdx);
+            return statement;
+        }, keyHolder);
+        if (result == 0) {
+            return null;
+        }
+        return new PostBoardCommentRes(keyHolder.getKey().intValue(), groupIdx);
     }
 
     public int updateBoardComment(PatchBoardCommentReq patchBoardCommentReq, int commentIdx) {
@@ -185,168 +251,142 @@ public class BoardDao {
 
     }
 
-    public int createCommentLike(int boardIdx, int commentIdx, int userIdx) {
-        String createCommentLikeQuery = "insert into CommentLike(commentIdx, userIdx) values(?,?)";
-        Object[] param = new Object[]{commentIdx, userIdx};
-        return this.jdbcTemplate.update(createCommentLikeQuery, param);
-    }
-
-    public int checkCommentLikeExists(int commentIdx, int userIdx) {
-        String checkCommentLikeExistsQuery = "select exists(select * from CommentLike where commentIdx =? and userIdx = ? and status = 'ACTIVE')";
-        Object[] params = new Object[]{commentIdx, userIdx};
-        return this.jdbcTemplate.queryForObject(checkCommentLikeExistsQuery, int.class, params);
-    }
-
-    public int deleteCommentLike(int commentIdx, int userIdx) {
-        String deleteCommentLikeQuery = "update CommentLike set status = 'DELETE' where commentIdx =? and userIdx =?";
-        Object[] params = new Object[]{commentIdx, userIdx};
-        return this.jdbcTemplate.update(deleteCommentLikeQuery, params);
-    }
-
-    public int checkCommentLikeStatus(int commentIdx, int userIdx) {
-        String checkCommentLikeStatusQuery = "select exists(select * from CommentLike where commentIdx = ? and userIdx = ? and status = 'DELETE')";
-        Object[] params = new Object[]{commentIdx, userIdx};
-        return this.jdbcTemplate.queryForObject(checkCommentLikeStatusQuery, int.class, params);
-    }
-
-    public int updateCommentLikeStatus(int commentIdx, int userIdx) {
-        String updateCommentLikeStatusQuery = "update CommentLike set status = 'ACTIVE' where commentIdx = ? and userIdx =?";
-        Object[] params = new Object[]{commentIdx, userIdx};
-        return this.jdbcTemplate.update(updateCommentLikeStatusQuery, params);
+    /* 댓글 좋아요 토글 : 토글 후 ACTIVE 이면 true */
+    public boolean toggleCommentLike(int commentIdx, int userIdx) {
+        String toggleCommentLikeQuery =
+                "insert into CommentLike(commentIdx, userIdx) values(?, ?)\n" +
+                "on duplicate key update " + TOGGLE_STATUS;
+        return StatusToggle.toggle(this.jdbcTemplate, toggleCommentLikeQuery, commentIdx, userIdx);
     }
 
-    public List<GetBoardCommentRes> getBoardComments(int boardIdx) {
-        String getBoardCommentsQuery =
-                "select *\n" +
-                "from (\n" +
-                "    select C.commentIdx, C.groupIdx, C.content, C.parentIdx, \n" +
-                "    CASE\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()), '분 전')\n" +
-                "        WHEN TIMESTAMPDIFF(HOUR, C.updatedAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, C.updatedAt, NOW()), '시간 전')\n" +
-                "        WHEN TIMESTAMPDIFF(DAY, C.updatedAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, C.updatedAt, NOW()), '일 전')\n" +
-                "        WHEN TIMESTAMPDIFF(WEEK, C.updatedAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, C.updatedAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, C.updatedAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime',\n" +
-                "    U.nickname, U.profileImage, \n" +
-                "    (select count(*) from Comment where boardIdx = ?) as commentCount,\n" +
-                "    (select count(*) from CommentLike CL where CL.commentIdx = C.commentIdx and boardIdx = ?) as commentLike\n" +
-                "    from Comment C\n" +
-                "    left outer join User U on C.userIdx = U.userIdx\n" +
-                "    where parentIdx in (\n" +
-                "        select commentIdx from (\n" +
-                "            select commentIdx from Comment\n" +
-                "            where parentIdx = 0 and C.status = 'ACTIVE'\n" +
-                "            order by commentIdx desc\n" +
-                "        ) as tmp\n" +
-                "        )\n" +
-                "    ) as tmp2\n" +
-                "union ( \n" +
-                "    select C.commentIdx, C.groupIdx, C.content, C.parentIdx, \n" +
-                "    CASE\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()), '분 전')\n" +
-                "        WHEN TIMESTAMPDIFF(HOUR, C.updatedAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, C.updatedAt, NOW()), '시간 전')\n" +
-                "        WHEN TIMESTAMPDIFF(DAY, C.updatedAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, C.updatedAt, NOW()), '일 전')\n" +
-                "        WHEN TIMESTAMPDIFF(WEEK, C.updatedAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, C.updatedAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, C.updatedAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime',\n" +
-                "    U.nickname, U.profileImage,\n" +
-                "    (select count(*) from Comment where boardIdx = ?) as commentCount,\n" +
-                "    (select count(*) from CommentLike CL where CL.commentIdx = C.commentIdx and boardIdx = ?) as commentLike\n" +
-                "    from Comment C\n" +
-                "    left outer join User U on C.userIdx = U.userIdx\n" +
-                "    where boardIdx = ? and parentIdx = 0 and C.status = 'ACTIVE'\n" +
-                "    order by commentIdx desc\n" +
-                ")\n" +
-                "order by groupIdx asc, parentIdx asc;";
-
-        Object[] params = new Object[]{boardIdx, boardIdx, boardIdx, boardIdx, boardIdx};
-        return this.jdbcTemplate.query(getBoardCommentsQuery,
-                (rs, rowNum) -> new GetBoardCommentRes(
-                        rs.getInt("commentIdx"),
-                        rs.getInt("groupIdx"),
-                        rs.getString("content"),
-                        rs.getInt("parentIdx"),
-                        rs.getString("elapsedTime"),
-                        rs.getString("nickname"),
-                        rs.getString("profileImage"),
-                        rs.getInt("commentCount"),
-                        rs.getInt("commentLike")
-                ), params);
-    }
+    /* 부모 댓글을 groupIdx 오름차순으로 afterGroupIdx 다음부터 limit 개 조회 */
+    public List<GetBoardCommentRes> getParentComments(int boardIdx, int afterGroupIdx, int limit) {
+        String getParentCommentsQuery =
+                "select C.commentIdx, C.groupIdx, C.content, C.parentIdx, C.updatedAt, U.nickname, U.profileImage\n" +
+                "from Comment C\n" +
+                "    left join User U on U.userIdx = C.userIdx\n" +
+                "where C.boardIdx = ? and C.status = 'ACTIVE' and C.parentIdx = 0 and C.groupIdx > ?\n" +
+                "order by C.groupIdx\n" +
+                "limit ?";
 
-    public int checkGroupParentIdx(PostBoardCommentReq postBoardCommentReq, int boardIdx) {
-        String checkGroupParentIdxQuery = "select exists(select * from Comment where boardIdx = ? and groupIdx = ? and parentIdx = 0 and status != 'DELETE')";
-        Object[] params = new Object[]{boardIdx, postBoardCommentReq.getGroupIdx()};
-        return this.jdbcTemplate.queryForObject(checkGroupParentIdxQuery, int.class, params);
+        Object[] params = new Object[]{boardIdx, afterGroupIdx, limit};
+        return this.jdbcTemplate.query(getParentCommentsQuery, commentRowMapper(), params);
     }
 
-    public List<GetBoardCommentRes> getBoardCommentsByGroup(int boardIdx, int groupIdx) {
-        String getBoardCommentsByGroupQuery =
+    /* 그룹별 앞쪽 대댓글 previewSize 개 */
+    public List<GetBoardCommentRes> getReplyPreviews(int boardIdx, List<Integer> groupIdxList, int previewSize) {
+        String placeholders = String.join(",", Collections.nCopies(groupIdxList.size(), "?"));
+        String getReplyPreviewsQuery =
                 "select *\n" +
                 "from (\n" +
-                "    select C.commentIdx, C.groupIdx, C.content, C.parentIdx, \n" +
-                "    CASE\n" +
-                "            WHEN TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "            WHEN TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()), '분 전')\n" +
-                "            WHEN TIMESTAMPDIFF(HOUR, C.updatedAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, C.updatedAt, NOW()), '시간 전')\n" +
-                "            WHEN TIMESTAMPDIFF(DAY, C.updatedAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, C.updatedAt, NOW()), '일 전')\n" +
-                "            WHEN TIMESTAMPDIFF(WEEK, C.updatedAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, C.updatedAt, NOW()), '주 전')\n" +
-                "        ELSE CONCAT(TIMESTAMPDIFF(MONTH, C.updatedAt, NOW()), '달 전')\n" +
-                "        END AS 'elapsedTime',\n" +
-                "        U.nickname, U.profileImage, \n" +
-                "        (select count(*) from Comment where boardIdx = ?) as commentCount,\n" +
-                "        (select count(*) from CommentLike CL where CL.commentIdx = C.commentIdx and boardIdx = ?) as commentLike\n" +
+                "    select C.commentIdx, C.groupIdx, C.content, C.parentIdx, C.updatedAt, U.nickname, U.profileImage,\n" +
+                "        row_number() over (partition by C.groupIdx order by C.commentIdx) as replyRank\n" +
                 "    from Comment C\n" +
-                "    left outer join User U on C.userIdx = U.userIdx\n" +
-                "    where parentIdx in (\n" +
-                "        select commentIdx from (\n" +
-                "            select commentIdx from Comment\n" +
-                "            where parentIdx = 0 and C.status = 'ACTIVE'\n" +
-                "            order by commentIdx desc\n" +
-                "        ) as tmp\n" +
-                "        )\n" +
-                "    ) as tmp2\n" +
-                "    where groupIdx = ?\n" +
-                "union ( \n" +
-                "    select C.commentIdx, C.groupIdx, C.content, C.parentIdx, \n" +
-                "    CASE\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "        WHEN TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, C.updatedAt, NOW()), '분 전')\n" +
-                "        WHEN TIMESTAMPDIFF(HOUR, C.updatedAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, C.updatedAt, NOW()), '시간 전')\n" +
-                "        WHEN TIMESTAMPDIFF(DAY, C.updatedAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, C.updatedAt, NOW()), '일 전')\n" +
-                "        WHEN TIMESTAMPDIFF(WEEK, C.updatedAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, C.updatedAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, C.updatedAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime',\n" +
-                "    U.nickname, U.profileImage,\n" +
-                "    (select count(*) from Comment where boardIdx = ?) as commentCount,\n" +
-                "    (select count(*) from CommentLike CL where CL.commentIdx = C.commentIdx and boardIdx = ?) as commentLike\n" +
-                "    from Comment C\n" +
-                "    left outer join User U on C.userIdx = U.userIdx\n" +
-                "    where boardIdx = ? and parentIdx = 0 and C.groupIdx = ?\n" +
-                "    order by commentIdx desc\n" +
-                ")\n" +
-                "order by groupIdx asc, parentIdx asc;\n";
-
-        Object[] params = new Object[]{boardIdx, boardIdx, groupIdx, boardIdx, boardIdx, boardIdx, groupIdx};
-        return this.jdbcTemplate.query(getBoardCommentsByGroupQuery,
-                (rs, rowNum) -> new GetBoardCommentRes(
-                        rs.getInt("commentIdx"),
-                        rs.getInt("groupIdx"),
-                        rs.getString("content"),
-                        rs.getInt("parentIdx"),
-                        rs.getString("elapsedTime"),
-                        rs.getString("nickname"),
-                        rs.getString("profileImage"),
-                        rs.getInt("commentCount"),
-                        rs.getInt("commentLike")
-                ), params);
+                "        left join User U on U.userIdx = C.userIdx\n" +
+                "    where C.boardIdx = ? and C.status = 'ACTIVE' and C.parentIdx = 1 and C.groupIdx in (" + placeholders + ")\n" +
+                ") R\n" +
+                "where R.replyRank <= ?\n" +
+                "order by R.groupIdx, R.commentIdx";
+
+        List<Object> params = new ArrayList<>();
+        params.add(boardIdx);
+        params.addAll(groupIdxList);
+        params.add(previewSize);
+        return this.jdbcTemplate.query(getReplyPreviewsQuery, commentRowMapper(), params.toArray());
+    }
+
+    /* 그룹별 대댓글 수 (대댓글이 없는 그룹은 포함되지 않음) */
+    public Map<Integer, Integer> getReplyCounts(int boardIdx, List<Integer> groupIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(groupIdxList.size(), "?"));
+        String getReplyCountsQuery =
+                "select groupIdx, count(*) as replyCount\n" +
+                "from Comment\n" +
+                "where boardIdx = ? and status = 'ACTIVE' and parentIdx = 1 and groupIdx in (" + placeholders + ")\n" +
+                "group by groupIdx";
+
+        List<Object> params = new ArrayList<>();
+        params.add(boardIdx);
+        params.addAll(groupIdxList);
+        return this.jdbcTemplate.query(getReplyCountsQuery, rs -> {
+            Map<Integer, Integer> replyCounts = new HashMap<>();
+            while (rs.next()) {
+                replyCounts.put(rs.getInt("groupIdx"), rs.getInt("replyCount"));
+            }
+            return replyCounts;
+        }, params.toArray());
+    }
+
+    /* 한 그룹의 대댓글을 commentIdx 오름차순으로 afterCommentIdx 다음부터 limit 개 조회 */
+    public List<GetBoardCommentRes> getReplies(int boardIdx, int groupIdx, int afterCommentIdx, int limit) {
+        String getRepliesQuery =
+                "select C.commentIdx, C.groupIdx, C.content, C.parentIdx, C.updatedAt, U.nickname, U.profileImage\n" +
+                "from Comment C\n" +
+                "    left join User U on U.userIdx = C.userIdx\n" +
+                "where C.boardIdx = ? and C.status = 'ACTIVE' and C.groupIdx = ? and C.parentIdx = 1 and C.commentIdx > ?\n" +
+                "order by C.commentIdx\n" +
+                "limit ?";
+
+        Object[] params = new Object[]{boardIdx, groupIdx, afterCommentIdx, limit};
+        return this.jdbcTemplate.query(getRepliesQuery, commentRowMapper(), params);
+    }
+
+    /* 댓글별 ACTIVE 좋아요 수 (좋아요가 없는 댓글은 포함되지 않음) */
+    public Map<Integer, Integer> getCommentLikeCounts(List<Integer> commentIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(commentIdxList.size(), "?"));
+        String getCommentLikeCountsQuery =
+                "select commentIdx, count(*) as likeCount\n" +
+                "from CommentLike\n" +
+                "where commentIdx in (" + placeholders + ") and status = 'ACTIVE'\n" +
+                "group by commentIdx";
+
+        return this.jdbcTemplate.query(getCommentLikeCountsQuery, rs -> {
+            Map<Integer, Integer> likeCounts = new HashMap<>();
+            while (rs.next()) {
+                likeCounts.put(rs.getInt("commentIdx"), rs.getInt("likeCount"));
+            }
+            return likeCounts;
+        }, commentIdxList.toArray());
+    }
+
+    /* boardIdxList 중 userIdx 가 좋아요(ACTIVE)를 누른 게시글 */
+    public Set<Integer> getLikedBoardIdx(int userIdx, List<Integer> boardIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(boardIdxList.size(), "?"));
+        String getLikedBoardIdxQuery = "select boardIdx from BoardLike where boardIdx in (" + placeholders + ") and userIdx = ? and status = 'ACTIVE'";
+        List<Object> params = new ArrayList<>(boardIdxList);
+        params.add(userIdx);
+        return new HashSet<>(this.jdbcTemplate.queryForList(getLikedBoardIdxQuery, Integer.class, params.toArray()));
+    }
+
+    /* commentIdxList 중 userIdx 가 좋아요(ACTIVE)를 누른 댓글 */
+    public Set<Integer> getLikedCommentIdx(int userIdx, List<Integer> commentIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(commentIdxList.size(), "?"));
+        String getLikedCommentIdxQuery = "select commentIdx from CommentLike where commentIdx in (" + placeholders + ") and userIdx = ? and status = 'ACTIVE'";
+        List<Object> params = new ArrayList<>(commentIdxList);
+        params.add(userIdx);
+        return new HashSet<>(this.jdbcTemplate.queryForList(getLikedCommentIdxQuery, Integer.class, params.toArray()));
+    }
+
+    public int getCommentCount(int boardIdx) {
+        String getCommentCountQuery = "select ifnull((select commentCount from BoardStats where boardIdx = ?), 0)";
+        return this.jdbcTemplate.queryForObject(getCommentCountQuery, int.class, boardIdx);
+    }
+
+    private RowMapper<GetBoardCommentRes> commentRowMapper() {
+        return (rs, rowNum) -> new GetBoardCommentRes(
+                rs.getInt("commentIdx"),
+                rs.getInt("groupIdx"),
+                rs.getString("content"),
+                rs.getInt("parentIdx"),
+                rs.getTimestamp("updatedAt").toLocalDateTime(),
+                rs.getString("nickname"),
+                rs.getString("profileImage"),
+                0,
+                null
+        );
     }
 
     public int checkCommentParentIdx(int commentIdx) {
         String checkCommentParentIdxQuery = "select parentIdx from Comment where commentIdx =?";
-        System.out.println("what : " + this.jdbcTemplate.queryForObject(checkCommentParentIdxQuery, int.class, commentIdx));
         return this.jdbcTemplate.queryForObject(checkCommentParentIdxQuery, int.class, commentIdx);
     }
 
@@ -362,50 +402,53 @@ public class BoardDao {
         return this.jdbcTemplate.update(deleteBoardCommentQuery, params);
     }
 
+    /* 신고 1건 기록 : ACTIVE 이고 본인이 쓰지 않은 댓글일 때만 insert, 중복 신고는 unique key 로 무시 -> 기록되면 1 */
     public int reportComment(int userIdx, int boardIdx, int commentIdx, PostCommentReportReq postCommentReportReq) {
-        String reportCommentQuery = "insert into Report(content, userIdx, boardIdx, commentIdx) values(?,?,?,?)";
-        Object[] params = new Object[]{postCommentReportReq.getContent(), userIdx, boardIdx, commentIdx};
+        String reportCommentQuery =
+                "insert ignore into Report(content, userIdx, boardIdx, commentIdx)\n" +
+                "select ?, ?, C.boardIdx, C.commentIdx\n" +
+                "from Comment C\n" +
+                "where C.commentIdx = ? and C.boardIdx = ? and C.status = 'ACTIVE' and C.userIdx != ?";
+        Object[] params = new Object[]{postCommentReportReq.getContent(), userIdx, commentIdx, boardIdx, userIdx};
         return this.jdbcTemplate.update(reportCommentQuery, params);
     }
 
-    public int checkCommentReportAlreadyExists(int userIdx, int commentIdx) {
-        String checkUserCommentReportQuery = "select exists(select * from Report where userIdx = ? and commentIdx = ?)";
-        Object[] params = new Object[] {userIdx, commentIdx};
-        return this.jdbcTemplate.queryForObject(checkUserCommentReportQuery, int.class, params);
+    /* 신고가 기록된 트랜잭션 안에서 댓글의 신고 수를 원자적으로 증가 */
+    public int updateCommentReportCount(int commentIdx, int delta) {
+        String updateCommentReportCountQuery = "update Comment set reportCount = greatest(reportCount + ?, 0) where commentIdx = ?";
+        Object[] params = new Object[]{delta, commentIdx};
+        return this.jdbcTemplate.update(updateCommentReportCountQuery, params);
     }
 
-    public int checkCommentExists(int commentIdx) {
-        String checkCommentStatusQuery = "select exists(select * from Comment where commentIdx =? and status = 'ACTIVE')";
-        return this.jdbcTemplate.queryForObject(checkCommentStatusQuery, int.class, commentIdx);
+    /* 신고 수가 threshold 이상이 되면 비활성화, 상태가 실제로 바뀐 한 번만 1 반환 */
+    public int deactivateReportedComment(int commentIdx, int threshold) {
+        String deactivateReportedCommentQuery =
+                "update Comment set status = 'INACTIVE'\n" +
+                "where commentIdx = ? and status = 'ACTIVE' and reportCount >= ?";
+        Object[] params = new Object[]{commentIdx, threshold};
+        return this.jdbcTemplate.update(deactivateReportedCommentQuery, params);
     }
 
-    public int checkCommentReportCount(int commentIdx) {
-        String checkCommentReportCountQuery = "select count(*) as reportCount from Report where commentIdx = ?";
-        return this.jdbcTemplate.queryForObject(checkCommentReportCountQuery, int.class, commentIdx);
+    /* 해당 게시글에 댓글이 없으면 null */
+    public String getCommentStatus(int boardIdx, int commentIdx) {
+        String getCommentStatusQuery = "select status from Comment where commentIdx = ? and boardIdx = ?";
+        List<String> statuses = this.jdbcTemplate.queryForList(getCommentStatusQuery, String.class, commentIdx, boardIdx);
+        return statuses.isEmpty() ? null : statuses.get(0);
     }
 
-    public int updateCommentStatus(int commentIdx) {
-        String updateCommentStatusQuery = "update Comment set status = 'INACTIVE' where commentIdx = ?";
-        return this.jdbcTemplate.update(updateCommentStatusQuery, commentIdx);
+    public int checkCommentExists(int commentIdx) {
+        String checkCommentStatusQuery = "select exists(select * from Comment where commentIdx =? and status = 'ACTIVE')";
+        return this.jdbcTemplate.queryForObject(checkCommentStatusQuery, int.class, commentIdx);
     }
 
     public int checkCommentWriter(int commentIdx) {
         String checkCommentUserIdxQuery = "select userIdx from Comment where commentIdx = ?";
-        System.out.println("userIdx : " + this.jdbcTemplate.queryForObject(checkCommentUserIdxQuery, int.class, commentIdx));
         return this.jdbcTemplate.queryForObject(checkCommentUserIdxQuery, int.class, commentIdx);
     }
 
-    public int getAllRecommendKeywordCounts() {
-        String getAllRecommendKeywordCountsQuery = "select count(*) from Recommend";
-        return this.jdbcTemplate.queryForObject(getAllRecommendKeywordCountsQuery, int.class);
-    }
-
-    public GetRecommendKeywordRes getRecommendKeyword(int randomIdx) {
-        String getRecommendKeywordQuery = "select keyword from Recommend where recommendIdx = ?";
-        return this.jdbcTemplate.queryForObject(getRecommendKeywordQuery,
-                (rs, rowNum) -> new GetRecommendKeywordRes(
-                        rs.getString("keyword")
-                ), randomIdx);
+    public List<String> getRecommendKeywords() {
+        String getRecommendKeywordsQuery = "select keyword from Recommend order by recommendIdx";
+        return this.jdbcTemplate.queryForList(getRecommendKeywordsQuery, String.class);
     }
 
     public int updateViewCount(int boardIdx) {
@@ -413,13 +456,23 @@ public class BoardDao {
         return this.jdbcTemplate.update(updateViewCountQuery, boardIdx);
     }
 
+    public int[] updateViewCounts(List<Integer> boardIdxList, List<Long> deltas) {
+        String updateViewCountsQuery = "update Board set viewCount = viewCount + ? where boardIdx = ?";
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < boardIdxList.size(); i++) {
+            batchArgs.add(new Object[]{deltas.get(i), boardIdxList.get(i)});
+        }
+        return this.jdbcTemplate.batchUpdate(updateViewCountsQuery, batchArgs);
+    }
+
     public List<GetBoardQuizRes> getBoardQuiz(int boardIdx) {
         String getBoardQuizQuery = "select quizIdx, quizType, question from Quiz where boardIdx = ? and status = 'ACTIVE'";
         return this.jdbcTemplate.query(getBoardQuizQuery,
                 (rs, rowNum) -> new GetBoardQuizRes(
                         rs.getInt("quizIdx"),
                         rs.getInt("quizType"),
-                        rs.getString("question")
+                        rs.getString("question"),
+                        null
                 ), boardIdx);
     }
 
@@ -443,126 +496,128 @@ public class BoardDao {
                 ), params);
     }
 
-    public List<GetBoardRes> getBoardsByCategoryIdx(int categoryIdx) {
+    /* 게시글의 모든 퀴즈 보기 : 퀴즈 타입에 맞는 테이블의 보기만 */
+    public List<GetBoardQuizAnswerRes> getBoardQuizAnswersByBoard(int boardIdx) {
+        String getBoardQuizAnswersQuery =
+                "select O.quizIdx, O.content, O.isAnswer, 'OBJECTIVE' as hint\n" +
+                "from ObjectiveAnswer O\n" +
+                "    join Quiz Q on Q.quizIdx = O.quizIdx\n" +
+                "where Q.boardIdx = ? and Q.status = 'ACTIVE' and Q.quizType = 1\n" +
+                "union all\n" +
+                "select S.quizIdx, S.content, S.isAnswer, S.hint\n" +
+                "from SubjectiveAnswer S\n" +
+                "    join Quiz Q on Q.quizIdx = S.quizIdx\n" +
+                "where Q.boardIdx = ? and Q.status = 'ACTIVE' and Q.quizType != 1";
+        Object[] params = new Object[]{boardIdx, boardIdx};
+        return this.jdbcTemplate.query(getBoardQuizAnswersQuery,
+                (rs, rowNum) -> new GetBoardQuizAnswerRes(
+                        rs.getInt("quizIdx"),
+                        rs.getString("content"),
+                        rs.getInt("isAnswer"),
+                        rs.getString("hint")
+                ), params);
+    }
+
+    /* 최신순 : boardIdx 는 작성 순서와 같으므로 boardIdx 자체를 정렬 키로 사용 */
+    public List<GetBoardRes> getBoardsByCategoryIdx(int categoryIdx, Cursor cursor, int limit) {
         String query =
                 "SELECT  B.boardIdx, U.nickname, U.profileImage,\n" +
-                "    CASE\n" +
-                "         WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "         WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()), '분 전')\n" +
-                "         WHEN TIMESTAMPDIFF(HOUR, B.createdAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, B.createdAt, NOW()), '시간 전')\n" +
-                "         WHEN TIMESTAMPDIFF(DAY, B.createdAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, B.createdAt, NOW()), '일 전')\n" +
-                "         WHEN TIMESTAMPDIFF(WEEK, B.createdAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, B.createdAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, B.createdAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime',\n" +
+                "    B.createdAt,\n" +
                 "    B.title,\n" +
-                "    COUNT(distinct Q.quizIdx) AS 'quizCount',\n" +
+                "    IFNULL(BS.quizCount, 0) AS 'quizCount',\n" +
                 "    B.viewCount,\n" +
-                "    COUNT(distinct (case when BL.status='ACTIVE' then BL.boardLikeIdx end)) AS 'likeCount',\n" +
-                "    COUNT(distinct (case when CM.status='ACTIVE' then CM.commentIdx end)) AS 'commentCount'\n" +
-                "FROM User U\n" +
-                "    LEFT JOIN Board B on U.userIdx = B.userIdx\n" +
-                "    LEFT JOIN Quiz Q on B.boardIdx = Q.boardIdx\n" +
-                "    LEFT JOIN Category C on B.categoryIdx = C.categoryIdx\n" +
-                "    LEFT JOIN BoardLike BL on B.boardIdx = BL.boardIdx\n" +
-                "    LEFT JOIN Comment CM on B.boardIdx = CM.boardIdx\n" +
-                "WHERE C.categoryIdx = ? AND B.status = 'ACTIVE'\n" +
-                "GROUP BY B.boardIdx, B.viewCount\n" +
-                "ORDER BY elapsedTime ASC\n";
-
+                "    IFNULL(BS.likeCount, 0) AS 'likeCount',\n" +
+                "    IFNULL(BS.commentCount, 0) AS 'commentCount'\n" +
+                "FROM Board B\n" +
+                "    JOIN User U on U.userIdx = B.userIdx\n" +
+                "    LEFT JOIN BoardStats BS on BS.boardIdx = B.boardIdx\n" +
+                "WHERE B.categoryIdx = ? AND B.status = 'ACTIVE' AND B.boardIdx < ?\n" +
+                "ORDER BY B.boardIdx DESC\n" +
+                "LIMIT ?";
+
+        Object[] params = new Object[]{categoryIdx, cursor.getIdx(), limit};
         return this.jdbcTemplate.query(query,
                 (rs, rowNum) -> new GetBoardRes(
                         rs.getInt("boardIdx"),
                         rs.getString("nickname"),
                         rs.getString("profileImage"),
-                        rs.getString("elapsedTime"),
+                        rs.getTimestamp("createdAt").toLocalDateTime(),
                         rs.getString("title"),
                         rs.getInt("quizCount"),
                         rs.getInt("viewCount"),
                         rs.getInt("likeCount"),
-                        rs.getInt("commentCount")
+                        rs.getInt("commentCount"),
+                        null
 
-                ), categoryIdx);
+                ), params);
     }
 
-    public List<GetBoardRes> getBoardsByCategoryIdxOrderByView(int categoryIdx) {
+    public List<GetBoardRes> getBoardsByCategoryIdxOrderByView(int categoryIdx, Cursor cursor, int limit) {
         String query =
                 "SELECT  B.boardIdx, U.nickname, U.profileImage,\n" +
-                "    CASE\n" +
-                "         WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "         WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()), '분 전')\n" +
-                "         WHEN TIMESTAMPDIFF(HOUR, B.createdAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, B.createdAt, NOW()), '시간 전')\n" +
-                "         WHEN TIMESTAMPDIFF(DAY, B.createdAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, B.createdAt, NOW()), '일 전')\n" +
-                "         WHEN TIMESTAMPDIFF(WEEK, B.createdAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, B.createdAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, B.createdAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime',\n" +
+                "    B.createdAt,\n" +
                 "    B.title,\n" +
-                "    COUNT(distinct Q.quizIdx) AS 'quizCount',\n" +
+                "    IFNULL(BS.quizCount, 0) AS 'quizCount',\n" +
                 "    B.viewCount,\n" +
-                "    COUNT(distinct (case when BL.status='ACTIVE' then BL.boardLikeIdx end)) AS 'likeCount',\n" +
-                "    COUNT(distinct (case when CM.status='ACTIVE' then CM.commentIdx end)) AS 'commentCount'\n" +
-                "FROM User U\n" +
-                "    LEFT JOIN Board B on U.userIdx = B.userIdx\n" +
-                "    LEFT JOIN Quiz Q on B.boardIdx = Q.boardIdx\n" +
-                "    LEFT JOIN Category C on B.categoryIdx = C.categoryIdx\n" +
-                "    LEFT JOIN BoardLike BL on B.boardIdx = BL.boardIdx\n" +
-                "    LEFT JOIN Comment CM on B.boardIdx = CM.boardIdx\n" +
-                "WHERE C.categoryIdx = ? AND B.status = 'ACTIVE'\n" +
-                "GROUP BY B.boardIdx, B.viewCount\n" +
-                "ORDER BY B.viewCount DESC\n";
-
+                "    IFNULL(BS.likeCount, 0) AS 'likeCount',\n" +
+                "    IFNULL(BS.commentCount, 0) AS 'commentCount'\n" +
+                "FROM Board B\n" +
+                "    JOIN User U on U.userIdx = B.userIdx\n" +
+                "    LEFT JOIN BoardStats BS on BS.boardIdx = B.boardIdx\n" +
+                "WHERE B.categoryIdx = ? AND B.status = 'ACTIVE'\n" +
+                "    AND (B.viewCount < ? OR (B.viewCount = ? AND B.boardIdx < ?))\n" +
+                "ORDER BY B.viewCount DESC, B.boardIdx DESC\n" +
+                "LIMIT ?";
+
+        Object[] params = new Object[]{categoryIdx, cursor.getKey(), cursor.getKey(), cursor.getIdx(), limit};
         return this.jdbcTemplate.query(query,
                 (rs, rowNum) -> new GetBoardRes(
                         rs.getInt("boardIdx"),
                         rs.getString("nickname"),
                         rs.getString("profileImage"),
-                        rs.getString("elapsedTime"),
+                        rs.getTimestamp("createdAt").toLocalDateTime(),
                         rs.getString("title"),
                         rs.getInt("quizCount"),
                         rs.getInt("viewCount"),
                         rs.getInt("likeCount"),
-                        rs.getInt("commentCount")
+                        rs.getInt("commentCount"),
+                        null
 
-                ), categoryIdx);
+                ), params);
     }
 
-    public List<GetBoardRes> getBoardsByCategoryIdxOrderByLike(int categoryIdx) {
+    /* 좋아요순 : BoardStats(categoryIdx, likeCount, boardIdx) 인덱스를 따라 읽음 */
+    public List<GetBoardRes> getBoardsByCategoryIdxOrderByLike(int categoryIdx, Cursor cursor, int limit) {
         String query = "SELECT  B.boardIdx, U.nickname, U.profileImage,\n" +
-                "    CASE\n" +
-                "         WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) <= 0 THEN '방금 전'\n" +
-                "         WHEN TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()) < 60 THEN CONCAT(TIMESTAMPDIFF(MINUTE, B.createdAt, NOW()), '분 전')\n" +
-                "         WHEN TIMESTAMPDIFF(HOUR, B.createdAt, NOW()) < 24 THEN CONCAT(TIMESTAMPDIFF(HOUR, B.createdAt, NOW()), '시간 전')\n" +
-                "         WHEN TIMESTAMPDIFF(DAY, B.createdAt, NOW()) < 7 THEN CONCAT(TIMESTAMPDIFF(DAY, B.createdAt, NOW()), '일 전')\n" +
-                "         WHEN TIMESTAMPDIFF(WEEK, B.createdAt, NOW()) < 5 THEN CONCAT(TIMESTAMPDIFF(WEEK, B.createdAt, NOW()), '주 전')\n" +
-                "    ELSE CONCAT(TIMESTAMPDIFF(MONTH, B.createdAt, NOW()), '달 전')\n" +
-                "    END AS 'elapsedTime',\n" +
+                "    B.createdAt,\n" +
                 "    B.title,\n" +
-                "    COUNT(distinct Q.quizIdx) AS 'quizCount',\n" +
+                "    BS.quizCount AS 'quizCount',\n" +
                 "    B.viewCount,\n" +
-                "    COUNT(distinct (case when BL.status='ACTIVE' then BL.boardLikeIdx end)) AS 'likeCount',\n" +
-                "    COUNT(distinct (case when CM.status='ACTIVE' then CM.commentIdx end)) AS 'commentCount'\n" +
-                "FROM User U\n" +
-                "    LEFT JOIN Board B on U.userIdx = B.userIdx\n" +
-                "    LEFT JOIN Quiz Q on B.boardIdx = Q.boardIdx\n" +
-                "    LEFT JOIN Category C on B.categoryIdx = C.categoryIdx\n" +
-                "    LEFT JOIN BoardLike BL on B.boardIdx = BL.boardIdx\n" +
-                "    LEFT JOIN Comment CM on B.boardIdx = CM.boardIdx\n" +
-                "WHERE C.categoryIdx = ? AND B.status = 'ACTIVE'\n" +
-                "GROUP BY B.boardIdx, B.viewCount\n" +
-                "ORDER BY B.likeCount DESC\n";
-
+                "    BS.likeCount AS 'likeCount',\n" +
+                "    BS.commentCount AS 'commentCount'\n" +
+                "FROM BoardStats BS\n" +
+                "    JOIN Board B on B.boardIdx = BS.boardIdx\n" +
+                "    JOIN User U on U.userIdx = B.userIdx\n" +
+                "WHERE BS.categoryIdx = ? AND B.status = 'ACTIVE'\n" +
+                "    AND (BS.likeCount < ? OR (BS.likeCount = ? AND BS.boardIdx < ?))\n" +
+                "ORDER BY BS.likeCount DESC, BS.boardIdx DESC\n" +
+                "LIMIT ?";
+
+        Object[] params = new Object[]{categoryIdx, cursor.getKey(), cursor.getKey(), cursor.getIdx(), limit};
         return this.jdbcTemplate.query(query,
                 (rs, rowNum) -> new GetBoardRes(
                         rs.getInt("boardIdx"),
                         rs.getString("nickname"),
                         rs.getString("profileImage"),
-                        rs.getString("elapsedTime"),
+                        rs.getTimestamp("createdAt").toLocalDateTime(),
                         rs.getString("title"),
                         rs.getInt("quizCount"),
                         rs.getInt("viewCount"),
                         rs.getInt("likeCount"),
-                        rs.getInt("commentCount")
+                        rs.getInt("commentCount"),
+                        null
 
-                ), categoryIdx);
+                ), params);
     }
 
     public int checkBoardWriter(int boardIdx) {
@@ -570,25 +625,25 @@ public class BoardDao {
         return this.jdbcTemplate.queryForObject(checkCommentUserIdxQuery, int.class, boardIdx);
     }
 
-    public int checkBoardReportAlreadyExists(int userIdx, int boardIdx) {
-        String checkUserBoardReportQuery = "select exists(select * from Report where userIdx = ? and boardIdx = ?)";
-        Object[] params = new Object[] {userIdx, boardIdx};
-        return this.jdbcTemplate.queryForObject(checkUserBoardReportQuery, int.class, params);
-    }
-
-    public int checkBoardReportCount(int boardIdx) {
-        String checkCommentReportCountQuery = "select count(*) as reportCount from Report where boardIdx = ?";
-        return this.jdbcTemplate.queryForObject(checkCommentReportCountQuery, int.class, boardIdx);
-    }
-
-    public int updateBoardStatus(int boardIdx) {
-        String updateBoardStatusQuery = "update Board set status = 'INACTIVE' where boardIdx = ?";
-        return this.jdbcTemplate.update(updateBoardStatusQuery, boardIdx);
-    }
-
+    /* 신고 1건 기록 : ACTIVE 이고 본인이 쓰지 않은 게시글일 때만 insert, 중복 신고는 unique key 로 무시 -> 기록되면 1 */
     public int reportBoard(int userIdx, int boardIdx, PostBoardReportReq postBoardReportReq) {
-        String reportCommentQuery = "insert into Report(content, userIdx, boardIdx) values(?,?,?)";
-        Object[] params = new Object[]{postBoardReportReq.getContent(), userIdx, boardIdx};
-        return this.jdbcTemplate.update(reportCommentQuery, params);
+        String reportBoardQuery =
+                "insert ignore into Report(content, userIdx, boardIdx, commentIdx)\n" +
+                "select ?, ?, B.boardIdx, 0\n" +
+                "from Board B\n" +
+                "where B.boardIdx = ? and B.status = 'ACTIVE' and B.userIdx != ?";
+        Object[] params = new Object[]{postBoardReportReq.getContent(), userIdx, boardIdx, userIdx};
+        return this.jdbcTemplate.update(reportBoardQuery, params);
+    }
+
+    /* BoardStats.reportCount 가 threshold 이상이 되면 비활성화, 상태가 실제로 바뀐 한 번만 1 반환 */
+    public int deactivateReportedBoard(int boardIdx, int threshold) {
+        String deactivateReportedBoardQuery =
+                "update Board B\n" +
+                "    join BoardStats BS on BS.boardIdx = B.boardIdx\n" +
+                "set B.status = 'INACTIVE'\n" +
+                "where B.boardIdx = ? and B.status = 'ACTIVE' and BS.reportCount >= ?";
+        Object[] params = new Object[]{boardIdx, threshold};
+        return this.jdbcTemplate.update(deactivateReportedBoardQuery, params);
     }
 }
@@ -0,0 +1,87 @@
+package com.moge.moge.domain.board.dao;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 게시글별 좋아요, 퀴즈, 댓글, 신고 수를 미리 집계해두는 BoardStats 테이블 관리
+ * 목록 조회 쿼리는 count 서브쿼리 대신 이 테이블을 join 한다.
+ * 카운터 upsert 가 행을 새로 만들 때도 Board 의 categoryIdx 를 함께 채워, 카테고리별 좋아요순 목록에서 빠지지 않게 한다.
+ */
+@Repository
+public class BoardStatsDao {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource){
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public int createBoardStats(int boardIdx, int categoryIdx) {
+        String createBoardStatsQuery = "insert ignore into BoardStats(boardIdx, categoryIdx) values(?, ?)";
+        Object[] params = new Object[]{boardIdx, categoryIdx};
+        return this.jdbcTemplate.update(createBoardStatsQuery, params);
+    }
+
+    public int updateLikeCount(int boardIdx, int delta) {
+        String updateLikeCountQuery =
+                "insert into BoardStats(boardIdx, categoryIdx, likeCount)\n" +
+                "select B.boardIdx, B.categoryIdx, greatest(?, 0) from Board B where B.boardIdx = ?\n" +
+                "on duplicate key update categoryIdx = B.categoryIdx, likeCount = greatest(BoardStats.likeCount + ?, 0)";
+        Object[] params = new Object[]{delta, boardIdx, delta};
+        return this.jdbcTemplate.update(updateLikeCountQuery, params);
+    }
+
+    public int updateQuizCount(int boardIdx, int delta) {
+        String updateQuizCountQuery =
+                "insert into BoardStats(boardIdx, categoryIdx, quizCount)\n" +
+                "select B.boardIdx, B.categoryIdx, greatest(?, 0) from Board B where B.boardIdx = ?\n" +
+                "on duplicate key update categoryIdx = B.categoryIdx, quizCount = greatest(BoardStats.quizCount + ?, 0)";
+        Object[] params = new Object[]{delta, boardIdx, delta};
+        return this.jdbcTemplate.update(updateQuizCountQuery, params);
+    }
+
+    public int updateCommentCount(int boardIdx, int delta) {
+        String updateCommentCountQuery =
+                "insert into BoardStats(boardIdx, categoryIdx, commentCount)\n" +
+                "select B.boardIdx, B.categoryIdx, greatest(?, 0) from Board B where B.boardIdx = ?\n" +
+                "on duplicate key update categoryIdx = B.categoryIdx, commentCount = greatest(BoardStats.commentCount + ?, 0)";
+        Object[] params = new Object[]{delta, boardIdx, delta};
+        return this.jdbcTemplate.update(updateCommentCountQuery, params);
+    }
+
+    public int updateReportCount(int boardIdx, int delta) {
+        String updateReportCountQuery =
+                "insert into BoardStats(boardIdx, categoryIdx, reportCount)\n" +
+                "select B.boardIdx, B.categoryIdx, greatest(?, 0) from Board B where B.boardIdx = ?\n" +
+                "on duplicate key update categoryIdx = B.categoryIdx, reportCount = greatest(BoardStats.reportCount + ?, 0)";
+        Object[] params = new Object[]{delta, boardIdx, delta};
+        return this.jdbcTemplate.update(updateReportCountQuery, params);
+    }
+
+    public int getMaxBoardIdx() {
+        String getMaxBoardIdxQuery = "select ifnull(max(boardIdx), 0) from Board";
+        return this.jdbcTemplate.queryForObject(getMaxBoardIdxQuery, int.class);
+    }
+
+    /* 원본 테이블에서 [fromBoardIdx, toBoardIdx] 구간의 카운터를 다시 계산해 덮어씀 */
+    public int rebuildBoardStats(int fromBoardIdx, int toBoardIdx) {
+        String rebuildBoardStatsQuery =
+                "insert into BoardStats(boardIdx, categoryIdx, likeCount, quizCount, commentCount, reportCount)\n" +
+                "select B.boardIdx, B.categoryIdx,\n" +
+                "    (select count(*) from BoardLike BL where BL.boardIdx = B.boardIdx and BL.status = 'ACTIVE'),\n" +
+                "    (select count(*) from Quiz Q where Q.boardIdx = B.boardIdx and Q.status = 'ACTIVE'),\n" +
+                "    (select count(*) from Comment CM where CM.boardIdx = B.boardIdx and CM.status = 'ACTIVE'),\n" +
+                "    (select count(*) from Report R where R.boardIdx = B.boardIdx and R.commentIdx = 0)\n" +
+                "from Board B\n" +
+                "where B.boardIdx between ? and ?\n" +
+                "on duplicate key update categoryIdx = values(categoryIdx), likeCount = values(likeCount), quizCount = values(quizCount),\n" +
+                "    commentCount = values(commentCount), reportCount = values(reportCount)";
+        Object[] params = new Object[]{fromBoardIdx, toBoardIdx};
+        return this.jdbcTemplate.update(rebuildBoardStatsQuery, params);
+    }
+}
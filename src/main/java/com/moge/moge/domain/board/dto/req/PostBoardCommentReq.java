@@ -9,6 +9,6 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class PostBoardCommentReq {
     private String content; // 신고
-    private int groupIdx; // 어떤 그루브이 댓글인지를 구분함
+    private int groupIdx; // 대댓글이 달릴 그룹 (부모 댓글은 서버에서 할당하므로 무시)
     private int parentIdx; // 0 : 부모댓글, 1 : 자녀댓글
 }
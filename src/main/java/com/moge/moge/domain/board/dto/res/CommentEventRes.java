@@ -0,0 +1,18 @@
+package com.moge.moge.domain.board.dto.res;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CommentEventRes {
+    private String type; // created, updated, deleted
+    private int commentIdx;
+    private Integer groupIdx; // created 일 때만
+    private Integer parentIdx; // created 일 때만
+    private String content; // deleted 이면 null
+}
@@ -1,10 +1,15 @@
 package com.moge.moge.domain.board.model.res;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.moge.moge.global.util.ElapsedTimeFormatter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -14,9 +19,15 @@ public class GetBoardCommentRes {
     private int groupIdx;
     private String content;
     private int parentIdx;
-    private String elapsedTime;
+    @JsonIgnore
+    private LocalDateTime updatedAt;
     private String nickname;
     private String profileImage;
-    private int commentCount;
     private int commentLike;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean isLiked; // 로그인한 사용자가 좋아요를 눌렀는지, 비로그인이면 응답에서 제외
+
+    public String getElapsedTime() {
+        return ElapsedTimeFormatter.format(updatedAt);
+    }
 }
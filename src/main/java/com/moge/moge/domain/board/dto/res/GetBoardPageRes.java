@@ -0,0 +1,15 @@
+package com.moge.moge.domain.board.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetBoardPageRes {
+    private List<GetBoardRes> boards;
+    private String nextCursor; // 마지막 페이지면 null
+}
@@ -1,14 +1,18 @@
 package com.moge.moge.domain.board.dto.res;
 
+import com.moge.moge.domain.quiz.dto.res.GetQuizStatsRes;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Getter
+@Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class GetBoardQuizRes {
     private int quizIdx;
     private int quizType;
     private String question;
+    private GetQuizStatsRes stats; // 시도 수, 정답률
 }
@@ -0,0 +1,27 @@
+package com.moge.moge.domain.board.dto.res;
+
+import com.moge.moge.domain.quiz.dto.res.GetQuizStatsRes;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetBoardQuizSessionRes {
+    private int boardIdx;
+    private List<Quiz> quizzes;
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Quiz {
+        private int quizIdx;
+        private int quizType;
+        private String question;
+        private List<GetBoardQuizAnswerRes> answers;
+        private GetQuizStatsRes stats; // 캐시에는 없고 응답할 때 채움
+    }
+}
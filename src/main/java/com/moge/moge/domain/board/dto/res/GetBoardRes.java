@@ -1,9 +1,14 @@
 package com.moge.moge.domain.board.dto.res;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.moge.moge.global.util.ElapsedTimeFormatter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -11,10 +16,17 @@ public class GetBoardRes {
     private int boardIdx;
     private String nickname;
     private String profileImage;
-    private String elapsedTime;
+    @JsonIgnore
+    private LocalDateTime createdAt;
     private String title;
     private int quizCount;
     private int viewCount;
     private int likeCount;
     private int commentCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean isLiked; // 로그인한 사용자가 좋아요를 눌렀는지, 비로그인이면 응답에서 제외
+
+    public String getElapsedTime() {
+        return ElapsedTimeFormatter.format(createdAt);
+    }
 }
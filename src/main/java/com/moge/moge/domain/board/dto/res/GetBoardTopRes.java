@@ -1,10 +1,14 @@
 package com.moge.moge.domain.board.model.res;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.moge.moge.global.util.ElapsedTimeFormatter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -19,5 +23,10 @@ public class GetBoardTopRes {
     private int commentCount;
     private String nickname;
     private String profileImage;
-    private String elapsedTime;
+    @JsonIgnore
+    private LocalDateTime createdAt;
+
+    public String getElapsedTime() {
+        return ElapsedTimeFormatter.format(createdAt);
+    }
 }
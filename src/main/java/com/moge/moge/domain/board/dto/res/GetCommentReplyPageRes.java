@@ -0,0 +1,16 @@
+package com.moge.moge.domain.board.dto.res;
+
+import com.moge.moge.domain.board.model.res.GetBoardCommentRes;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetCommentReplyPageRes {
+    private List<GetBoardCommentRes> replies;
+    private String nextCursor; // 마지막 페이지면 null
+}
@@ -0,0 +1,18 @@
+package com.moge.moge.domain.board.dto.res;
+
+import com.moge.moge.domain.board.model.res.GetBoardCommentRes;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetCommentThreadRes {
+    private GetBoardCommentRes comment;
+    private int replyCount;
+    private List<GetBoardCommentRes> replies; // 앞쪽 일부 대댓글
+    private String replyCursor; // 나머지 대댓글을 /comments/group 으로 이어서 조회할 커서, 없으면 null
+}
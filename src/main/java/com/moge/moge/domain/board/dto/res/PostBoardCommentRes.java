@@ -0,0 +1,15 @@
+package com.moge.moge.domain.board.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostBoardCommentRes {
+    private int commentIdx;
+    private int groupIdx; // 부모 댓글은 자신의 commentIdx, 대댓글은 부모 댓글의 groupIdx
+}
@@ -0,0 +1,12 @@
+package com.moge.moge.domain.board.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostLikeRes {
+    private boolean liked; // 요청 이후 좋아요 상태 (true : 등록, false : 해제)
+}
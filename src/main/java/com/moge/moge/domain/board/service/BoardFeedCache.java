@@ -0,0 +1,99 @@
+package com.moge.moge.domain.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moge.moge.domain.board.dto.res.GetBoardPageRes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.BiPredicate;
+
+import static com.moge.moge.global.util.Constants.ORDER_BY_LIKE;
+
+/**
+ * 카테고리 피드(categoryIdx, order, cursor, size) 조회 결과 캐시
+ * 게시글 작성 / 좋아요 / 댓글 등 쓰기가 일어나면 영향을 받는 페이지만 무효화하고,
+ * 조회수처럼 따로 무효화하지 않는 값은 TTL 만큼만 늦게 반영된다.
+ */
+@Component
+public class BoardFeedCache {
+
+    private final Cache<FeedKey, GetBoardPageRes> cache;
+
+    @Autowired
+    public BoardFeedCache(MeterRegistry meterRegistry,
+                          @Value("${moge.board.feed-cache.max-size:1000}") long maxSize,
+                          @Value("${moge.board.feed-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardFeed");
+    }
+
+    public GetBoardPageRes get(int categoryIdx, int order, String cursor, int size) {
+        return cache.getIfPresent(new FeedKey(categoryIdx, order, cursor, size));
+    }
+
+    public void put(int categoryIdx, int order, String cursor, int size, GetBoardPageRes page) {
+        cache.put(new FeedKey(categoryIdx, order, cursor, size), page);
+    }
+
+    /* 새 게시글 작성 : 해당 카테고리의 모든 페이지 */
+    public void evictCategory(int categoryIdx) {
+        evictAfterCommit((key, page) -> key.categoryIdx == categoryIdx);
+    }
+
+    /* 좋아요 : 좋아요순 페이지 전체와, 해당 게시글이 들어있는 페이지 */
+    public void evictOnLike(int boardIdx) {
+        evictAfterCommit((key, page) -> key.order == ORDER_BY_LIKE || contains(page, boardIdx));
+    }
+
+    /* 댓글 작성 / 삭제, 게시글 비활성화 : 해당 게시글이 들어있는 페이지 */
+    public void evictBoard(int boardIdx) {
+        evictAfterCommit((key, page) -> contains(page, boardIdx));
+    }
+
+    private static boolean contains(GetBoardPageRes page, int boardIdx) {
+        return page.getBoards().stream().anyMatch(board -> board.getBoardIdx() == boardIdx);
+    }
+
+    /* 트랜잭션 안에서 호출되면 커밋 이후에 무효화 -> 커밋 전 값이 다시 캐시되는 것을 막음 */
+    private void evictAfterCommit(BiPredicate<FeedKey, GetBoardPageRes> predicate) {
+        Runnable evict = () -> cache.asMap().entrySet()
+                .removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    @EqualsAndHashCode
+    private static class FeedKey {
+        private final int categoryIdx;
+        private final int order;
+        private final String cursor;
+        private final int size;
+
+        FeedKey(int categoryIdx, int order, String cursor, int size) {
+            this.categoryIdx = categoryIdx;
+            this.order = order;
+            this.cursor = cursor == null ? "" : cursor;
+            this.size = size;
+        }
+    }
+}
@@ -1,66 +1,183 @@
 package com.moge.moge.domain.board.service;
 
 import com.moge.moge.domain.board.dao.BoardDao;
+import com.moge.moge.domain.board.dto.res.GetBoardCommentsRes;
 import com.moge.moge.domain.board.dto.res.GetBoardQuizAnswerRes;
+import com.moge.moge.domain.board.dto.res.GetBoardPageRes;
 import com.moge.moge.domain.board.dto.res.GetBoardQuizRes;
+import com.moge.moge.domain.board.dto.res.GetBoardQuizSessionRes;
+import com.moge.moge.domain.quiz.dto.res.GetQuizStatsRes;
+import com.moge.moge.domain.quiz.service.QuizStatsBuffer;
 import com.moge.moge.domain.board.dto.res.GetBoardRes;
+import com.moge.moge.domain.board.dto.res.GetCommentReplyPageRes;
+import com.moge.moge.domain.board.dto.res.GetCommentThreadRes;
 import com.moge.moge.domain.board.model.res.GetBoardCommentRes;
 import com.moge.moge.domain.board.model.res.GetBoardSearchRes;
 import com.moge.moge.domain.board.model.res.GetBoardTopRes;
 import com.moge.moge.domain.board.model.res.GetRecommendKeywordRes;
+import com.moge.moge.global.common.Cursor;
 import com.moge.moge.global.config.security.JwtService;
 import com.moge.moge.global.exception.BaseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.moge.moge.global.exception.BaseResponseStatus.BOARD_NOT_EXISTS;
 import static com.moge.moge.global.exception.BaseResponseStatus.DATABASE_ERROR;
+import static com.moge.moge.global.util.Constants.BOARD_SEARCH_LIMIT;
+import static com.moge.moge.global.util.Constants.COMMENT_REPLY_PREVIEW_SIZE;
 import static com.moge.moge.global.util.Constants.ORDER_BY_LIKE;
 import static com.moge.moge.global.util.Constants.ORDER_BY_VIEW;
 import static com.moge.moge.global.util.ValidationUtils.checkCategoryIdxRange;
+import static com.moge.moge.global.util.ValidationUtils.checkPageSize;
 import static com.moge.moge.global.util.ValidationUtils.checkTitleNull;
 
 @Service
 public class BoardProvider {
 
     private final BoardDao boardDao;
+    private final BoardStatusCache boardStatusCache;
+    private final BoardTopRanking boardTopRanking;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardFeedCache boardFeedCache;
+    private final CommentStreamHub commentStreamHub;
+    private final RecommendKeywordSampler recommendKeywordSampler;
+    private final QuizSessionCache quizSessionCache;
+    private final QuizStatsBuffer quizStatsBuffer;
     private final JwtService jwtService;
 
     final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     @Autowired
-    public BoardProvider(BoardDao boardDao, JwtService jwtService) {
+    public BoardProvider(BoardDao boardDao, BoardStatusCache boardStatusCache, BoardTopRanking boardTopRanking, BoardSearchIndex boardSearchIndex, BoardFeedCache boardFeedCache, CommentStreamHub commentStreamHub, RecommendKeywordSampler recommendKeywordSampler, QuizSessionCache quizSessionCache, QuizStatsBuffer quizStatsBuffer, JwtService jwtService) {
         this.boardDao = boardDao;
+        this.boardStatusCache = boardStatusCache;
+        this.boardTopRanking = boardTopRanking;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardFeedCache = boardFeedCache;
+        this.commentStreamHub = commentStreamHub;
+        this.recommendKeywordSampler = recommendKeywordSampler;
+        this.quizSessionCache = quizSessionCache;
+        this.quizStatsBuffer = quizStatsBuffer;
         this.jwtService = jwtService;
     }
 
-    public List<GetBoardCommentRes> getBoardComments(int boardIdx) throws BaseException {
+    /* 댓글 변경 구독 : 게시글이 없으면 에러 이벤트 한 건을 보내고 종료 */
+    public SseEmitter subscribeBoardComments(int boardIdx) {
+        if (!boardStatusCache.isActive(boardIdx)) {
+            return commentStreamHub.reject(BOARD_NOT_EXISTS);
+        }
+        return commentStreamHub.subscribe(boardIdx);
+    }
+
+    /* 부모 댓글을 groupIdx 커서로 페이지 단위 조회하고, 각 댓글에 대댓글 수와 앞쪽 대댓글 일부를 붙임 */
+    public GetBoardCommentsRes getBoardComments(int boardIdx, String cursor, int size, Integer viewerIdx) throws BaseException {
+        checkPageSize(size);
+        int afterGroupIdx = getAfterKey(cursor);
+        if (!boardStatusCache.isActive(boardIdx)) {
+            throw new BaseException(BOARD_NOT_EXISTS);
+        }
+
         try {
-            if (boardDao.checkBoardExists(boardIdx) == 0) {
-                throw new BaseException(BOARD_NOT_EXISTS);
+            List<GetBoardCommentRes> parents = boardDao.getParentComments(boardIdx, afterGroupIdx, size + 1);
+            String nextCursor = null;
+            if (parents.size() > size) {
+                parents = new ArrayList<>(parents.subList(0, size));
+                nextCursor = new Cursor(parents.get(size - 1).getGroupIdx(), parents.get(size - 1).getCommentIdx()).encode();
             }
-            return boardDao.getBoardComments(boardIdx);
-        } catch (BaseException exception) {
+
+            List<GetCommentThreadRes> threads = new ArrayList<>();
+            if (!parents.isEmpty()) {
+                List<Integer> groupIdxList = parents.stream().map(GetBoardCommentRes::getGroupIdx).collect(Collectors.toList());
+                Map<Integer, Integer> replyCounts = boardDao.getReplyCounts(boardIdx, groupIdxList);
+                List<GetBoardCommentRes> previews = replyCounts.isEmpty()
+                        ? new ArrayList<>()
+                        : boardDao.getReplyPreviews(boardIdx, groupIdxList, COMMENT_REPLY_PREVIEW_SIZE);
+
+                List<GetBoardCommentRes> comments = new ArrayList<>(parents);
+                comments.addAll(previews);
+                setCommentLikes(comments, viewerIdx);
+
+                Map<Integer, List<GetBoardCommentRes>> repliesByGroup = previews.stream()
+                        .collect(Collectors.groupingBy(GetBoardCommentRes::getGroupIdx));
+                for (GetBoardCommentRes parent : parents) {
+                    List<GetBoardCommentRes> replies = repliesByGroup.getOrDefault(parent.getGroupIdx(), new ArrayList<>());
+                    int replyCount = replyCounts.getOrDefault(parent.getGroupIdx(), 0);
+                    String replyCursor = null;
+                    if (replyCount > replies.size()) {
+                        // 두 쿼리 사이에 대댓글이 추가되어 미리보기가 비었으면 부모 댓글 다음부터 조회
+                        replyCursor = getReplyCursor(replies.isEmpty() ? parent : replies.get(replies.size() - 1));
+                    }
+                    threads.add(new GetCommentThreadRes(parent, replyCount, replies, replyCursor));
+                }
+            }
+            return new GetBoardCommentsRes(boardDao.getCommentCount(boardIdx), threads, nextCursor);
+        } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public List<GetBoardCommentRes> getBoardCommentsByGroup(int boardIdx, int groupIdx) throws BaseException {
-        //try {
-            return boardDao.getBoardCommentsByGroup(boardIdx, groupIdx);
-        //} catch (BaseException exception) {
-        //    throw new BaseException(DATABASE_ERROR);
-        //}
+    /* 한 그룹의 대댓글을 commentIdx 커서로 이어서 조회 */
+    public GetCommentReplyPageRes getBoardCommentsByGroup(int boardIdx, int groupIdx, String cursor, int size, Integer viewerIdx) throws BaseException {
+        checkPageSize(size);
+        int afterCommentIdx = getAfterKey(cursor);
+        if (!boardStatusCache.isActive(boardIdx)) {
+            throw new BaseException(BOARD_NOT_EXISTS);
+        }
+
+        try {
+            List<GetBoardCommentRes> replies = boardDao.getReplies(boardIdx, groupIdx, afterCommentIdx, size + 1);
+            String nextCursor = null;
+            if (replies.size() > size) {
+                replies = new ArrayList<>(replies.subList(0, size));
+                nextCursor = getReplyCursor(replies.get(size - 1));
+            }
+            setCommentLikes(replies, viewerIdx);
+            return new GetCommentReplyPageRes(replies, nextCursor);
+        } catch (Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+    }
+
+    private String getReplyCursor(GetBoardCommentRes reply) {
+        return new Cursor(reply.getCommentIdx(), reply.getCommentIdx()).encode();
+    }
+
+    // 댓글은 오래된 순(오름차순)이므로 첫 페이지는 0 부터
+    private int getAfterKey(String cursor) throws BaseException {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        return (int) Cursor.decode(cursor).getKey();
+    }
+
+    /* 좋아요 수와, 로그인한 사용자라면 본인의 좋아요 여부를 IN 쿼리로 한 번에 채움 */
+    private void setCommentLikes(List<GetBoardCommentRes> comments, Integer viewerIdx) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        List<Integer> commentIdxList = comments.stream().map(GetBoardCommentRes::getCommentIdx).collect(Collectors.toList());
+        Map<Integer, Integer> likeCounts = boardDao.getCommentLikeCounts(commentIdxList);
+        Set<Integer> liked = viewerIdx == null ? null : boardDao.getLikedCommentIdx(viewerIdx, commentIdxList);
+        for (GetBoardCommentRes comment : comments) {
+            comment.setCommentLike(likeCounts.getOrDefault(comment.getCommentIdx(), 0));
+            if (liked != null) {
+                comment.setIsLiked(liked.contains(comment.getCommentIdx()));
+            }
+        }
     }
 
     public List<GetBoardTopRes> getBoardTopLike() throws BaseException {
         try {
-            return boardDao.getBoardTopLike();
+            return boardTopRanking.getTopLike();
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
@@ -68,7 +185,7 @@ public class BoardProvider {
 
     public List<GetBoardTopRes> getBoardTopView() throws BaseException {
         try {
-            return boardDao.getBoardTopView();
+            return boardTopRanking.getTopView();
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
@@ -77,69 +194,154 @@ public class BoardProvider {
     public List<GetBoardSearchRes> getBoardByKeyword(String title) throws BaseException {
         checkTitleNull(title);
         try {
-            return boardDao.getBoardByKeyword(title);
+            // 색인이 아직 만들어지지 않았으면 기존 like 검색 사용
+            if (!boardSearchIndex.isReady()) {
+                return boardDao.getBoardByKeyword(title);
+            }
+            List<Integer> boardIdxList = boardSearchIndex.search(title, BOARD_SEARCH_LIMIT);
+            if (boardIdxList.isEmpty()) {
+                return new ArrayList<>();
+            }
+            return boardDao.getBoardsByIdxList(boardIdxList);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public int getAllRecommendKeywordCounts() throws BaseException {
+    /* 메모리에 올려둔 추천 키워드 중 서로 다른 size 개를 무작위로 */
+    public List<GetRecommendKeywordRes> getRecommendKeyword(int size) throws BaseException {
         try {
-            return boardDao.getAllRecommendKeywordCounts();
+            return recommendKeywordSampler.sample(size).stream()
+                    .map(GetRecommendKeywordRes::new)
+                    .collect(Collectors.toList());
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public List<GetRecommendKeywordRes> getRecommendKeyword(List<Integer> randomIdxList) throws BaseException {
+    public List<GetBoardQuizRes> getBoardQuiz(int boardIdx) throws BaseException {
         try {
-            List<GetRecommendKeywordRes> recommendKeywordList = new ArrayList<>();
-            for (int randomIdx : randomIdxList) {
-                GetRecommendKeywordRes keyword = boardDao.getRecommendKeyword(randomIdx);
-                recommendKeywordList.add(keyword);
+            if (!boardStatusCache.isActive(boardIdx)) {
+                throw new BaseException(BOARD_NOT_EXISTS);
             }
-            return recommendKeywordList;
-
+            List<GetBoardQuizRes> quizzes = boardDao.getBoardQuiz(boardIdx);
+            List<Integer> quizIdxList = new ArrayList<>(quizzes.size());
+            for (GetBoardQuizRes quiz : quizzes) {
+                quizIdxList.add(quiz.getQuizIdx());
+            }
+            Map<Integer, GetQuizStatsRes> stats = quizStatsBuffer.getStats(quizIdxList);
+            for (GetBoardQuizRes quiz : quizzes) {
+                quiz.setStats(stats.get(quiz.getQuizIdx()));
+            }
+            return quizzes;
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public List<GetBoardQuizRes> getBoardQuiz(int boardIdx) throws BaseException {
+    public List<GetBoardQuizAnswerRes> getBoardQuizAnswers(int boardIdx, int quizIdx) throws BaseException {
         try {
-            if (boardDao.checkBoardExists(boardIdx) == 0) {
+            if (!boardStatusCache.isActive(boardIdx)) {
                 throw new BaseException(BOARD_NOT_EXISTS);
             }
-            return boardDao.getBoardQuiz(boardIdx);
+            return boardDao.getBoardQuizAnswers(boardIdx, quizIdx);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public List<GetBoardQuizAnswerRes> getBoardQuizAnswers(int boardIdx, int quizIdx) throws BaseException {
+    /* 퀴즈 풀이 세션 : 게시글의 퀴즈와 보기 전체를 한 번에 */
+    public GetBoardQuizSessionRes getBoardQuizSession(int boardIdx) throws BaseException {
+        if (!boardStatusCache.isActive(boardIdx)) {
+            throw new BaseException(BOARD_NOT_EXISTS);
+        }
         try {
-            if (boardDao.checkBoardExists(boardIdx) == 0) {
-                throw new BaseException(BOARD_NOT_EXISTS);
+            GetBoardQuizSessionRes session = quizSessionCache.get(boardIdx);
+            List<Integer> quizIdxList = new ArrayList<>(session.getQuizzes().size());
+            for (GetBoardQuizSessionRes.Quiz quiz : session.getQuizzes()) {
+                quizIdxList.add(quiz.getQuizIdx());
             }
-            return boardDao.getBoardQuizAnswers(boardIdx, quizIdx);
+            // 캐시된 세션은 공유되므로 통계를 채운 응답용 객체를 따로 만듦
+            Map<Integer, GetQuizStatsRes> stats = quizStatsBuffer.getStats(quizIdxList);
+            List<GetBoardQuizSessionRes.Quiz> quizzes = new ArrayList<>(session.getQuizzes().size());
+            for (GetBoardQuizSessionRes.Quiz quiz : session.getQuizzes()) {
+                quizzes.add(new GetBoardQuizSessionRes.Quiz(quiz.getQuizIdx(), quiz.getQuizType(), quiz.getQuestion(),
+                        quiz.getAnswers(), stats.get(quiz.getQuizIdx())));
+            }
+            return new GetBoardQuizSessionRes(boardIdx, quizzes);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public List<GetBoardRes> getBoardsByCategoryIdx(int categoryIdx, int order) throws BaseException {
+    public GetBoardPageRes getBoardsByCategoryIdx(int categoryIdx, int order, String cursor, int size, Integer viewerIdx) throws BaseException {
         checkCategoryIdxRange(categoryIdx);
+        checkPageSize(size);
+        Cursor after = Cursor.decode(cursor);
 
         try {
-            if (order == ORDER_BY_VIEW) {
-                return boardDao.getBoardsByCategoryIdxOrderByView(categoryIdx);
-            }
-            if (order == ORDER_BY_LIKE) {
-                return boardDao.getBoardsByCategoryIdxOrderByLike(categoryIdx);
+            GetBoardPageRes page = boardFeedCache.get(categoryIdx, order, cursor, size);
+            if (page == null) {
+                page = loadBoardPage(categoryIdx, order, after, size);
+                boardFeedCache.put(categoryIdx, order, cursor, size, page);
             }
-            return boardDao.getBoardsByCategoryIdx(categoryIdx);
+            return viewerIdx == null ? page : withViewerLikes(page, viewerIdx);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
+
+    private GetBoardPageRes loadBoardPage(int categoryIdx, int order, Cursor after, int size) {
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<GetBoardRes> boards;
+        if (order == ORDER_BY_VIEW) {
+            boards = boardDao.getBoardsByCategoryIdxOrderByView(categoryIdx, after, size + 1);
+        } else if (order == ORDER_BY_LIKE) {
+            boards = boardDao.getBoardsByCategoryIdxOrderByLike(categoryIdx, after, size + 1);
+        } else {
+            boards = boardDao.getBoardsByCategoryIdx(categoryIdx, after, size + 1);
+        }
+
+        if (boards.size() <= size) {
+            return new GetBoardPageRes(boards, null);
+        }
+        List<GetBoardRes> pageBoards = new ArrayList<>(boards.subList(0, size));
+        return new GetBoardPageRes(pageBoards, getNextCursor(pageBoards.get(size - 1), order).encode());
+    }
+
+    /* 캐시된 페이지는 여러 사용자가 공유하므로 복사본에 isLiked 를 채움 (페이지당 IN 쿼리 1번) */
+    private GetBoardPageRes withViewerLikes(GetBoardPageRes page, int viewerIdx) {
+        if (page.getBoards().isEmpty()) {
+            return page;
+        }
+        List<Integer> boardIdxList = page.getBoards().stream().map(GetBoardRes::getBoardIdx).collect(Collectors.toList());
+        Set<Integer> liked = boardDao.getLikedBoardIdx(viewerIdx, boardIdxList);
+
+        List<GetBoardRes> boards = new ArrayList<>(page.getBoards().size());
+        for (GetBoardRes board : page.getBoards()) {
+            boards.add(new GetBoardRes(
+                    board.getBoardIdx(),
+                    board.getNickname(),
+                    board.getProfileImage(),
+                    board.getCreatedAt(),
+                    board.getTitle(),
+                    board.getQuizCount(),
+                    board.getViewCount(),
+                    board.getLikeCount(),
+                    board.getCommentCount(),
+                    liked.contains(board.getBoardIdx())
+            ));
+        }
+        return new GetBoardPageRes(boards, page.getNextCursor());
+    }
+
+    private Cursor getNextCursor(GetBoardRes last, int order) {
+        if (order == ORDER_BY_VIEW) {
+            return new Cursor(last.getViewCount(), last.getBoardIdx());
+        }
+        if (order == ORDER_BY_LIKE) {
+            return new Cursor(last.getLikeCount(), last.getBoardIdx());
+        }
+        return new Cursor(last.getBoardIdx(), last.getBoardIdx());
+    }
 }
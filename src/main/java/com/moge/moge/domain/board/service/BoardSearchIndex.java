@@ -0,0 +1,245 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dao.BoardDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.moge.moge.global.util.Constants.BOARD_SEARCH_INDEX_CHUNK;
+
+/**
+ * 게시글 제목 검색용 n-gram 역색인
+ * 한글은 음절 단위로 bigram 을 만들고(검색어가 한 글자면 unigram), 게시글 식별자 posting list 의 교집합으로 후보를 찾은 뒤
+ * 원문 포함 여부를 다시 확인한다. 결과는 like '%keyword%' 와 같다.
+ * 시작 시 ACTIVE 게시글로 만들어지고, 게시글 생성 / 비활성화 시점과 주기적인 catch-up 으로 갱신된다.
+ */
+@Component
+public class BoardSearchIndex {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final BoardDao boardDao;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Integer, String> titles = new HashMap<>();
+
+    private volatile boolean ready = false;
+    // catch-up 이 어디까지 읽었는지 (add 로 직접 들어온 게시글과는 별개로 관리)
+    private int scannedBoardIdx = 0;
+
+    @Autowired
+    public BoardSearchIndex(BoardDao boardDao) {
+        this.boardDao = boardDao;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            catchUp();
+            ready = true;
+            logger.info("Board search index built with {} titles", titles.size());
+        } catch (Exception exception) {
+            logger.error("Board search index build failed, falling back to LIKE search", exception);
+        }
+    }
+
+    /* 다른 서버에서 작성된 게시글 반영 */
+    @Scheduled(fixedDelayString = "${moge.board.search.catch-up-ms:30000}")
+    public void scheduledCatchUp() {
+        if (!ready) {
+            return;
+        }
+        try {
+            catchUp();
+        } catch (Exception exception) {
+            logger.error("Board search index catch-up failed", exception);
+        }
+    }
+
+    private synchronized void catchUp() {
+        while (true) {
+            Map<Integer, String> boards = boardDao.getActiveBoardTitles(scannedBoardIdx, BOARD_SEARCH_INDEX_CHUNK);
+            for (Map.Entry<Integer, String> board : boards.entrySet()) {
+                index(board.getKey(), board.getValue());
+                scannedBoardIdx = Math.max(scannedBoardIdx, board.getKey());
+            }
+            if (boards.size() < BOARD_SEARCH_INDEX_CHUNK) {
+                return;
+            }
+        }
+    }
+
+    /* 게시글 생성 직후 호출 : 트랜잭션 안이면 커밋 이후에 색인 -> 롤백된 게시글이 색인에 남지 않음 */
+    public void add(int boardIdx, String title) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index(boardIdx, title);
+                }
+            });
+        } else {
+            index(boardIdx, title);
+        }
+    }
+
+    private void index(int boardIdx, String title) {
+        if (title == null) {
+            return;
+        }
+        String normalized = normalize(title);
+        lock.writeLock().lock();
+        try {
+            if (titles.containsKey(boardIdx)) {
+                return;
+            }
+            titles.put(boardIdx, normalized);
+            for (int gram : indexGrams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(boardIdx);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int boardIdx) {
+        lock.writeLock().lock();
+        try {
+            String normalized = titles.remove(boardIdx);
+            if (normalized == null) {
+                return;
+            }
+            for (int gram : indexGrams(normalized)) {
+                PostingList postingList = postings.get(gram);
+                if (postingList != null && postingList.remove(boardIdx) && postingList.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* keyword 를 포함하는 게시글 식별자를 최신순으로 최대 limit 개 반환 */
+    public List<Integer> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        List<Integer> result = new ArrayList<>();
+        if (query.isEmpty()) {
+            return result;
+        }
+        int[] queryGrams = grams(query);
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[queryGrams.length];
+            for (int i = 0; i < queryGrams.length; i++) {
+                lists[i] = postings.get(queryGrams[i]);
+                if (lists[i] == null) {
+                    return result;
+                }
+            }
+            // 가장 짧은 posting list 를 기준으로 나머지에서 이진 탐색
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            PostingList shortest = lists[0];
+            for (int i = shortest.size - 1; i >= 0 && result.size() < limit; i--) {
+                int boardIdx = shortest.ids[i];
+                if (containsInAll(lists, boardIdx) && titles.get(boardIdx).contains(query)) {
+                    result.add(boardIdx);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containsInAll(PostingList[] lists, int boardIdx) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(boardIdx)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /* 한 글자면 unigram, 그 외에는 중복 없는 bigram 목록 */
+    private static int[] grams(String text) {
+        if (text.length() == 1) {
+            return new int[]{text.charAt(0)};
+        }
+        int[] grams = new int[text.length() - 1];
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams[i] = (text.charAt(i) << 16) | text.charAt(i + 1);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /* 한 글자 검색어를 위해 bigram 과 별도로 unigram 도 색인 */
+    private static int[] indexGrams(String text) {
+        int[] bigrams = text.length() > 1 ? grams(text) : new int[0];
+        int[] unigrams = text.chars().distinct().toArray();
+        int[] all = Arrays.copyOf(bigrams, bigrams.length + unigrams.length);
+        System.arraycopy(unigrams, 0, all, bigrams.length, unigrams.length);
+        return all;
+    }
+
+    /* 게시글 식별자를 오름차순으로 유지하는 int 배열 */
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        void add(int boardIdx) {
+            int position = size == 0 || ids[size - 1] < boardIdx ? size : Arrays.binarySearch(ids, 0, size, boardIdx);
+            if (position >= 0 && position < size) {
+                return;
+            }
+            if (position < 0) {
+                position = -position - 1;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = boardIdx;
+            size++;
+        }
+
+        boolean remove(int boardIdx) {
+            int position = Arrays.binarySearch(ids, 0, size, boardIdx);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(int boardIdx) {
+            return Arrays.binarySearch(ids, 0, size, boardIdx) >= 0;
+        }
+    }
+}
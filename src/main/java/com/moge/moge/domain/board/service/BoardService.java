@@ -1,10 +1,13 @@
 package com.moge.moge.domain.board.service;
 
 import com.moge.moge.domain.board.dao.BoardDao;
+import com.moge.moge.domain.board.dao.BoardStatsDao;
 import com.moge.moge.domain.board.dto.req.PostBoardReportReq;
 import com.moge.moge.domain.board.dto.req.PostCommentReportReq;
 import com.moge.moge.domain.board.dto.req.PatchBoardCommentReq;
 import com.moge.moge.domain.board.dto.req.PostBoardCommentReq;
+import com.moge.moge.domain.board.dto.res.CommentEventRes;
+import com.moge.moge.domain.board.dto.res.PostBoardCommentRes;
 import com.moge.moge.domain.s3.S3Service;
 import com.moge.moge.global.config.security.JwtService;
 import com.moge.moge.global.exception.BaseException;
@@ -12,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import static com.moge.moge.global.exception.BaseResponseStatus.*;
 import static com.moge.moge.global.util.ValidationUtils.checkCommentNull;
@@ -22,81 +26,113 @@ public class BoardService {
     final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final BoardDao boardDao;
+    private final BoardStatusCache boardStatusCache;
+    private final BoardStatsDao boardStatsDao;
     private final BoardProvider boardProvider;
+    private final BoardTopRanking boardTopRanking;
+    private final BoardFeedCache boardFeedCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ReportModerationWorker reportModerationWorker;
+    private final CommentStreamHub commentStreamHub;
     private final JwtService jwtService;
     private final S3Service s3Service;
 
     @Autowired
-    public BoardService(BoardDao boardDao, BoardProvider boardProvider, JwtService jwtService, S3Service s3Service) {
+    public BoardService(BoardDao boardDao, BoardStatusCache boardStatusCache, BoardStatsDao boardStatsDao, BoardProvider boardProvider, BoardTopRanking boardTopRanking, BoardFeedCache boardFeedCache, ViewCountBuffer viewCountBuffer, ReportModerationWorker reportModerationWorker, CommentStreamHub commentStreamHub, JwtService jwtService, S3Service s3Service) {
         this.boardDao = boardDao;
+        this.boardStatusCache = boardStatusCache;
+        this.boardStatsDao = boardStatsDao;
         this.boardProvider = boardProvider;
+        this.boardTopRanking = boardTopRanking;
+        this.boardFeedCache = boardFeedCache;
+        this.viewCountBuffer = viewCountBuffer;
+        this.reportModerationWorker = reportModerationWorker;
+        this.commentStreamHub = commentStreamHub;
         this.jwtService = jwtService;
         this.s3Service = s3Service;
     }
 
-    public void createBoardLike(int boardIdx, int userIdx) throws BaseException {
+    @Transactional(rollbackFor = Exception.class)
+    public boolean createBoardLike(int boardIdx, int userIdx) throws BaseException {
         try {
-            if (boardDao.checkBoardExists(boardIdx) == 0) {
+            if (!boardStatusCache.isActive(boardIdx)) {
                 throw new BaseException(BOARD_NOT_EXISTS);
             }
 
-            // 좋아요가 눌려있으면
-            if (boardDao.checkBoardLikeExists(boardIdx, userIdx) == 1) {
-                boardDao.deleteBoardLike(boardIdx, userIdx);
-            } else { // 안눌려있으면
-                if (boardDao.checkBoardLikeStatus(boardIdx, userIdx) == 1) {
-                    boardDao.updateBoardLikeStatus(boardIdx, userIdx);
-                } else {
-                    int result = boardDao.createBoardLike(boardIdx, userIdx);
-                    if (result == 0) {
-                        throw new BaseException(FAILED_TO_CREATE_BOARD_LIKE);
-                    }
-                }
-            }
+            // 좋아요 등록/해제를 한 문장으로 처리 -> 동시에 눌러도 한 쪽으로만 반영됨
+            boolean liked = boardDao.toggleBoardLike(boardIdx, userIdx);
+            int delta = liked ? 1 : -1;
+            boardStatsDao.updateLikeCount(boardIdx, delta);
+            boardTopRanking.onLike(boardIdx, delta);
+            boardFeedCache.evictOnLike(boardIdx);
+            return liked;
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public int createBoardComment(PostBoardCommentReq postBoardCommentReq, int boardIdx, int userIdx) throws BaseException {
-        if (postBoardCommentReq.getParentIdx() == 1) { // 만약 대댓글을 작성할 때 그룹 IDX가 존재하지 않으면 대댓글을 작성할 수 없음
-            if (boardDao.checkCommentGroupIdx(postBoardCommentReq.getGroupIdx()) == 0) {
-                throw new BaseException(BOARD_COMMENT_GROUP_IDX_NOT_EXISTS);
-            }
+    @Transactional(rollbackFor = Exception.class)
+    public PostBoardCommentRes createBoardComment(PostBoardCommentReq postBoardCommentReq, int boardIdx, int userIdx) throws BaseException {
+        if (!boardStatusCache.isActive(boardIdx)) {
+            throw new BaseException(BOARD_NOT_EXISTS);
         }
 
-        if (postBoardCommentReq.getParentIdx() == 0) {
-            if (boardDao.checkGroupParentIdx(postBoardCommentReq, boardIdx) == 1) {
-                throw new BaseException(BOARD_COMMENT_GROUP_PARENT_IDX_EXISTS);
+        PostBoardCommentRes postBoardCommentRes;
+        try {
+            if (postBoardCommentReq.getParentIdx() == 0) {
+                // 부모 댓글의 groupIdx 는 서버에서 할당
+                postBoardCommentRes = boardDao.createParentComment(postBoardCommentReq.getContent(), boardIdx, userIdx);
+            } else {
+                postBoardCommentRes = boardDao.createReplyComment(postBoardCommentReq.getContent(), boardIdx, postBoardCommentReq.getGroupIdx(), userIdx);
             }
+        } catch (Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+        // 대댓글을 달 부모 댓글이 없으면 대댓글을 작성할 수 없음
+        if (postBoardCommentRes == null) {
+            throw new BaseException(BOARD_COMMENT_GROUP_IDX_NOT_EXISTS);
         }
 
         try {
-            return boardDao.createBoardComment(postBoardCommentReq, boardIdx, userIdx);
+            boardStatsDao.updateCommentCount(boardIdx, 1);
+            boardFeedCache.evictBoard(boardIdx);
+            commentStreamHub.publish(boardIdx, new CommentEventRes(CommentStreamHub.CREATED, postBoardCommentRes.getCommentIdx(),
+                    postBoardCommentRes.getGroupIdx(), postBoardCommentReq.getParentIdx(), postBoardCommentReq.getContent()));
+            return postBoardCommentRes;
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public int updateBoardComment(PatchBoardCommentReq patchBoardCommentReq, int commentIdx) throws BaseException {
-        if (boardDao.updateBoardComment(patchBoardCommentReq, commentIdx) == 0) {
-            throw new BaseException(FAILED_TO_UPDATE_COMMENT);
-        }
+    public int updateBoardComment(PatchBoardCommentReq patchBoardCommentReq, int boardIdx, int commentIdx) throws BaseException {
+        checkCommentNull(patchBoardCommentReq.getContent());
+        int result;
         try {
-            checkCommentNull(patchBoardCommentReq.getContent());
-            return boardDao.updateBoardComment(patchBoardCommentReq, commentIdx);
+            result = boardDao.updateBoardComment(patchBoardCommentReq, commentIdx);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
+        if (result == 0) {
+            throw new BaseException(FAILED_TO_UPDATE_COMMENT);
+        }
+        commentStreamHub.publish(boardIdx, new CommentEventRes(CommentStreamHub.UPDATED, commentIdx, null, null, patchBoardCommentReq.getContent()));
+        return result;
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public void deleteBoardComment(int boardIdx, int commentIdx) throws BaseException {
         try {
             // 댓글 식별자로 해당 댓글의 부모식별자를 알아옴 -> 만약 1이라면 그냥 삭제, 0이면 댓글수정
+            int result;
             if (boardDao.checkCommentParentIdx(commentIdx) == 1) {
-                boardDao.deleteChildComment(boardIdx, commentIdx);
+                result = boardDao.deleteChildComment(boardIdx, commentIdx);
             } else {
-                boardDao.deleteParentComment(boardIdx, commentIdx);
+                result = boardDao.deleteParentComment(boardIdx, commentIdx);
+            }
+            boardStatsDao.updateCommentCount(boardIdx, -result);
+            boardFeedCache.evictBoard(boardIdx);
+            if (result > 0) {
+                commentStreamHub.publish(boardIdx, new CommentEventRes(CommentStreamHub.DELETED, commentIdx, null, null, null));
             }
 
         } catch (Exception exception) {
@@ -104,90 +140,102 @@ public class BoardService {
         }
     }
 
-    public void createCommentLike(int boardIdx, int commentIdx, int userIdx) throws BaseException {
+    @Transactional(rollbackFor = Exception.class)
+    public boolean createCommentLike(int boardIdx, int commentIdx, int userIdx) throws BaseException {
         try {
-            if (boardDao.checkBoardExists(boardIdx) == 0) {
+            if (!boardStatusCache.isActive(boardIdx)) {
                 throw new BaseException(BOARD_NOT_EXISTS);
             }
-            if (boardDao.checkCommentLikeExists(commentIdx, userIdx) == 1) {
-                boardDao.deleteCommentLike(commentIdx, userIdx);
-            } else {
-                if (boardDao.checkCommentLikeStatus(commentIdx, userIdx) == 1) {
-                    boardDao.updateCommentLikeStatus(commentIdx, userIdx);
-                } else {
-                    int result = boardDao.createCommentLike(boardIdx, commentIdx, userIdx);
-                    if (result == 0) {
-                        throw new BaseException(FAILED_TO_CREATE_COMMENT_LIKE);
-                    }
-                }
-            }
+            return boardDao.toggleCommentLike(commentIdx, userIdx);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public void reportComment(int userIdx, int boardIdx, int commentIdx, PostCommentReportReq postCommentReportReq) throws BaseException {
-        // 해당 댓글이 존재하지 않으면 에러 발생
-        if (boardDao.checkCommentExists(commentIdx) == 0) {
-            throw new BaseException(COMMENT_NOT_EXISTS);
-        }
         if (postCommentReportReq.getContent() == null) {
             throw new BaseException(EMPTY_COMMENTS_REPORT_CONTENT);
         }
-        // 자기가 쓴 댓글은 신고 불가능
-        if (boardDao.checkCommentWriter(commentIdx) == userIdx) {
-            throw new BaseException(FAILED_TO_CREATE_COMMENT_REPORT);
-        }
-        // 해당 유저가 이미 신고한 댓글이면 신고 불가능
-        if (boardDao.checkCommentReportAlreadyExists(userIdx, commentIdx) == 1) {
-            throw new BaseException(COMMENT_REPORT_ALREADY_EXISTS);
-        }
-        // 신고누적횟수가 3회 이상이면 신고 불가능
-        if (boardDao.checkCommentReportCount(commentIdx) >= 3) {
-            boardDao.updateCommentStatus(commentIdx); // 신고횟수가 3번 쌓이면 INACTIVE로 status를 바꾸어줌
-            throw new BaseException(COMMENT_REPORT_EXCEED);
-        }
 
+        int reported;
         try {
-            boardDao.reportComment(userIdx, boardIdx, commentIdx, postCommentReportReq);
+            reported = boardDao.reportComment(userIdx, boardIdx, commentIdx, postCommentReportReq);
+            if (reported == 1) {
+                // 신고 기록과 신고 수 증가를 같은 트랜잭션으로 -> 카운터가 Report 행 수와 어긋나지 않음
+                boardDao.updateCommentReportCount(commentIdx, 1);
+            }
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
+        if (reported == 1) {
+            // 비활성화와 캐시 무효화는 커밋 이후 워커에서 처리
+            reportModerationWorker.commentReported(boardIdx, commentIdx);
+            return;
+        }
+
+        // 기록되지 않은 경우에만 이유를 확인
+        String status = boardDao.getCommentStatus(boardIdx, commentIdx);
+        if (status == null) {
+            throw new BaseException(COMMENT_NOT_EXISTS);
+        }
+        if (!status.equals("ACTIVE")) {
+            throw new BaseException(COMMENT_REPORT_EXCEED);
+        }
+        // 자기가 쓴 댓글은 신고 불가능
+        if (boardDao.checkCommentWriter(commentIdx) == userIdx) {
+            throw new BaseException(FAILED_TO_CREATE_COMMENT_REPORT);
+        }
+        throw new BaseException(COMMENT_REPORT_ALREADY_EXISTS);
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public void reportBoard(int userIdx, int boardIdx, PostBoardReportReq postBoardReportReq) throws BaseException {
+        if (postBoardReportReq.getContent() == null) {
+            throw new BaseException(EMPTY_BOARDS_REPORT_CONTENT);
+        }
+
+        int reported;
         try {
-            if (boardDao.checkBoardExists(boardIdx) == 0) {
-                throw new BaseException(BOARD_NOT_EXISTS);
-            }
-            if (postBoardReportReq.getContent() == null) {
-                throw new BaseException(EMPTY_BOARDS_REPORT_CONTENT);
-            }
-            if (boardDao.checkBoardWriter(boardIdx) == userIdx) {
-                throw new BaseException(FAILED_TO_CREATE_BOARD_REPORT);
+            reported = boardDao.reportBoard(userIdx, boardIdx, postBoardReportReq);
+            if (reported == 1) {
+                boardStatsDao.updateReportCount(boardIdx, 1);
             }
-            if (boardDao.checkBoardReportAlreadyExists(userIdx, boardIdx) == 1) {
-                throw new BaseException(BOARD_REPORT_ALREADY_EXISTS);
-            }
-            if (boardDao.checkBoardReportCount(boardIdx) >= 3) {
-                boardDao.updateBoardStatus(boardIdx);
-                throw new BaseException(BOARD_REPORT_EXCEED);
-            }
-            boardDao.reportBoard(userIdx,boardIdx, postBoardReportReq);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
+        if (reported == 1) {
+            reportModerationWorker.boardReported(boardIdx);
+            return;
+        }
+
+        String status = boardDao.getBoardStatus(boardIdx);
+        if (status == null) {
+            throw new BaseException(BOARD_NOT_EXISTS);
+        }
+        if (!status.equals("ACTIVE")) {
+            throw new BaseException(BOARD_REPORT_EXCEED);
+        }
+        if (boardDao.checkBoardWriter(boardIdx) == userIdx) {
+            throw new BaseException(FAILED_TO_CREATE_BOARD_REPORT);
+        }
+        throw new BaseException(BOARD_REPORT_ALREADY_EXISTS);
     }
 
     public void updateViewCount(int boardIdx) throws BaseException {
         try {
-            if (boardDao.checkBoardExists(boardIdx) == 0) {
+            if (!boardStatusCache.isActive(boardIdx)) {
                 throw new BaseException(BOARD_NOT_EXISTS);
             }
-            int result = boardDao.updateViewCount(boardIdx);
-            if (result == 0) {
-                throw new BaseException(FAILED_TO_UPDATE_VIEW_COUNT);
+            if (viewCountBuffer.isBuffered()) {
+                viewCountBuffer.increment(boardIdx);
+            } else {
+                int result = boardDao.updateViewCount(boardIdx);
+                if (result == 0) {
+                    throw new BaseException(FAILED_TO_UPDATE_VIEW_COUNT);
+                }
             }
+            boardTopRanking.onView(boardIdx);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
@@ -0,0 +1,37 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dao.BoardStatsDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.moge.moge.global.util.Constants.BOARD_STATS_RECONCILE_CHUNK;
+
+@Component
+public class BoardStatsScheduler {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final BoardStatsDao boardStatsDao;
+
+    @Autowired
+    public BoardStatsScheduler(BoardStatsDao boardStatsDao) {
+        this.boardStatsDao = boardStatsDao;
+    }
+
+    /* 쓰기 경로에서 누락되거나 어긋난 BoardStats 카운터를 원본 테이블 기준으로 다시 맞춤 */
+    @Scheduled(cron = "${moge.board.stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcileBoardStats() {
+        try {
+            int maxBoardIdx = boardStatsDao.getMaxBoardIdx();
+            for (int from = 1; from <= maxBoardIdx; from += BOARD_STATS_RECONCILE_CHUNK) {
+                boardStatsDao.rebuildBoardStats(from, from + BOARD_STATS_RECONCILE_CHUNK - 1);
+            }
+            logger.info("BoardStats reconciled up to boardIdx {}", maxBoardIdx);
+        } catch (Exception exception) {
+            logger.error("BoardStats reconciliation failed", exception);
+        }
+    }
+}
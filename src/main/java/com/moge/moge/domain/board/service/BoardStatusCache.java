@@ -0,0 +1,184 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dao.BoardDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.moge.moge.global.util.Constants.BOARD_STATUS_LOAD_CHUNK;
+
+/**
+ * 게시글 존재 여부(ACTIVE) 캐시
+ * ACTIVE 게시글은 boardIdx 비트셋으로, 그 외 상태(INACTIVE, DELETE)는 작은 map 으로 관리한다.
+ * 둘 다에 없는 boardIdx 는 DB 에서 한 번 조회한 뒤 기록하고, 다른 서버의 변경은 주기적인 reload 로 반영된다.
+ * reload 가 DB 를 읽는 동안 들어온 변경은 따로 모아두었다가 새 스냅샷에 다시 적용한다.
+ */
+@Component
+public class BoardStatusCache {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private final BoardDao boardDao;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private BitSet active = new BitSet();
+    private Map<Integer, String> inactive = new HashMap<>();
+    // reload 중에만 null 이 아님 : DB 를 읽기 시작한 뒤 들어온 상태 변경
+    private Map<Integer, String> changedDuringReload = null;
+    private volatile boolean loaded = false;
+
+    @Autowired
+    public BoardStatusCache(BoardDao boardDao) {
+        this.boardDao = boardDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+            loaded = true;
+        } catch (Exception exception) {
+            logger.error("Board status cache load failed, falling back to DB lookups", exception);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${moge.board.status.reload-ms:300000}")
+    public void scheduledReload() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception exception) {
+            logger.error("Board status cache reload failed", exception);
+        }
+    }
+
+    private synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            changedDuringReload = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            BitSet newActive = new BitSet();
+            Map<Integer, String> newInactive = new HashMap<>();
+            int lastBoardIdx = 0;
+            while (true) {
+                Map<Integer, String> statuses = boardDao.getBoardStatuses(lastBoardIdx, BOARD_STATUS_LOAD_CHUNK);
+                for (Map.Entry<Integer, String> status : statuses.entrySet()) {
+                    if (ACTIVE.equals(status.getValue())) {
+                        newActive.set(status.getKey());
+                    } else {
+                        newInactive.put(status.getKey(), status.getValue());
+                    }
+                    lastBoardIdx = status.getKey();
+                }
+                if (statuses.size() < BOARD_STATUS_LOAD_CHUNK) {
+                    break;
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                active = newActive;
+                inactive = newInactive;
+                // 읽는 도중 들어온 변경(신고로 인한 비활성화 등)이 옛 스냅샷과 함께 버려지지 않도록 다시 적용
+                changedDuringReload.forEach(this::apply);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public boolean isActive(int boardIdx) {
+        if (boardIdx <= 0) {
+            return false;
+        }
+        if (loaded) {
+            lock.readLock().lock();
+            try {
+                if (active.get(boardIdx)) {
+                    return true;
+                }
+                if (inactive.containsKey(boardIdx)) {
+                    return false;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 캐시에 없는 게시글(다른 서버에서 생성 등)은 DB 에서 확인 후 기록
+        String status = boardDao.getBoardStatus(boardIdx);
+        if (status == null) {
+            return false;
+        }
+        updateStatus(boardIdx, status);
+        return ACTIVE.equals(status);
+    }
+
+    /* 게시글 생성 직후 호출 : 트랜잭션 안이면 커밋 이후에 반영 -> 롤백된 게시글이 ACTIVE 로 남지 않음 */
+    public void markActive(int boardIdx) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updateStatus(boardIdx, ACTIVE);
+                }
+            });
+        } else {
+            updateStatus(boardIdx, ACTIVE);
+        }
+    }
+
+    public void markInactive(int boardIdx) {
+        updateStatus(boardIdx, "INACTIVE");
+    }
+
+    private void updateStatus(int boardIdx, String status) {
+        lock.writeLock().lock();
+        try {
+            apply(boardIdx, status);
+            if (changedDuringReload != null) {
+                changedDuringReload.put(boardIdx, status);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* write lock 을 잡은 상태에서 호출 */
+    private void apply(int boardIdx, String status) {
+        if (ACTIVE.equals(status)) {
+            active.set(boardIdx);
+            inactive.remove(boardIdx);
+        } else {
+            active.clear(boardIdx);
+            inactive.put(boardIdx, status);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dao.BoardDao;
+import com.moge.moge.domain.board.model.res.GetBoardTopRes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import static com.moge.moge.global.util.Constants.BOARD_TOP_CANDIDATE_SIZE;
+import static com.moge.moge.global.util.Constants.BOARD_TOP_SIZE;
+
+/**
+ * 좋아요 / 조회수 top 10 게시글을 메모리에서 관리
+ * 상위 후보(BOARD_TOP_CANDIDATE_SIZE)만 정렬된 상태로 유지하고, 좋아요·조회 쓰기 경로에서 점수를 갱신한다.
+ * 후보 밖의 게시글이 올라오는 경우와 다른 서버에서 발생한 변경은 주기적인 resync 로 반영된다.
+ */
+@Component
+public class BoardTopRanking {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final BoardDao boardDao;
+    private final Ranking likeRanking = new Ranking(GetBoardTopRes::getLikeCount);
+    private final Ranking viewRanking = new Ranking(GetBoardTopRes::getViewCount);
+
+    private volatile boolean loaded = false;
+
+    @Autowired
+    public BoardTopRanking(BoardDao boardDao) {
+        this.boardDao = boardDao;
+    }
+
+    public List<GetBoardTopRes> getTopLike() {
+        loadIfNeeded();
+        return likeRanking.getTop();
+    }
+
+    public List<GetBoardTopRes> getTopView() {
+        loadIfNeeded();
+        return viewRanking.getTop();
+    }
+
+    /* 트랜잭션 안에서 호출되면 커밋 이후에 반영 -> 롤백된 좋아요가 순위에 남지 않음 */
+    public void onLike(int boardIdx, int delta) {
+        Consumer<GetBoardTopRes> mutation = board -> board.setLikeCount(Math.max(board.getLikeCount() + delta, 0));
+        Runnable update = () -> {
+            likeRanking.update(boardIdx, mutation);
+            viewRanking.update(boardIdx, mutation);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    public void onView(int boardIdx) {
+        Consumer<GetBoardTopRes> mutation = board -> board.setViewCount(board.getViewCount() + 1);
+        viewRanking.update(boardIdx, mutation);
+        likeRanking.update(boardIdx, mutation);
+    }
+
+    /* 비활성화된 게시글은 바로 제외하고, 빈 자리는 다음 resync 에서 채움 */
+    public void remove(int boardIdx) {
+        likeRanking.remove(boardIdx);
+        viewRanking.remove(boardIdx);
+    }
+
+    @Scheduled(fixedDelayString = "${moge.board.ranking.resync-ms:60000}")
+    public void resync() {
+        try {
+            likeRanking.reset(boardDao.getBoardTopLike(BOARD_TOP_CANDIDATE_SIZE));
+            viewRanking.reset(boardDao.getBoardTopView(BOARD_TOP_CANDIDATE_SIZE));
+            loaded = true;
+        } catch (Exception exception) {
+            logger.error("Board ranking resync failed", exception);
+        }
+    }
+
+    private void loadIfNeeded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    likeRanking.reset(boardDao.getBoardTopLike(BOARD_TOP_CANDIDATE_SIZE));
+                    viewRanking.reset(boardDao.getBoardTopView(BOARD_TOP_CANDIDATE_SIZE));
+                    loaded = true;
+                }
+            }
+        }
+    }
+
+    /* 점수 내림차순(동점이면 최신 게시글 우선)으로 정렬된 후보 집합과, 읽기용 top 10 스냅샷 */
+    private static class Ranking {
+
+        private final Comparator<GetBoardTopRes> order;
+        private final TreeSet<GetBoardTopRes> sorted;
+        private final Map<Integer, GetBoardTopRes> entries = new HashMap<>();
+        private volatile List<GetBoardTopRes> top = Collections.emptyList();
+
+        Ranking(ToIntFunction<GetBoardTopRes> score) {
+            this.order = Comparator.comparingInt(score).reversed()
+                    .thenComparing(Comparator.comparingInt(GetBoardTopRes::getBoardIdx).reversed());
+            this.sorted = new TreeSet<>(order);
+        }
+
+        List<GetBoardTopRes> getTop() {
+            return top;
+        }
+
+        synchronized void reset(List<GetBoardTopRes> boards) {
+            sorted.clear();
+            entries.clear();
+            for (GetBoardTopRes board : boards) {
+                sorted.add(board);
+                entries.put(board.getBoardIdx(), board);
+            }
+            publish();
+        }
+
+        synchronized void update(int boardIdx, Consumer<GetBoardTopRes> mutation) {
+            GetBoardTopRes board = entries.get(boardIdx);
+            if (board == null) {
+                return;
+            }
+            // 정렬 키가 바뀌므로 빼고 수정한 뒤 다시 넣음
+            sorted.remove(board);
+            mutation.accept(board);
+            sorted.add(board);
+            publish();
+        }
+
+        synchronized void remove(int boardIdx) {
+            GetBoardTopRes board = entries.remove(boardIdx);
+            if (board != null) {
+                sorted.remove(board);
+                publish();
+            }
+        }
+
+        private void publish() {
+            List<GetBoardTopRes> snapshot = new ArrayList<>(BOARD_TOP_SIZE);
+            for (GetBoardTopRes board : sorted) {
+                if (snapshot.size() == BOARD_TOP_SIZE) {
+                    break;
+                }
+                snapshot.add(copyOf(board));
+            }
+            top = Collections.unmodifiableList(snapshot);
+        }
+
+        private static GetBoardTopRes copyOf(GetBoardTopRes board) {
+            return new GetBoardTopRes(
+                    board.getBoardIdx(),
+                    board.getCategoryName(),
+                    board.getTitle(),
+                    board.getViewCount(),
+                    board.getLikeCount(),
+                    board.getQuizCount(),
+                    board.getCommentCount(),
+                    board.getNickname(),
+                    board.getProfileImage(),
+                    board.getCreatedAt()
+            );
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dto.res.CommentEventRes;
+import com.moge.moge.global.common.BaseResponse;
+import com.moge.moge.global.exception.BaseResponseStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.moge.moge.global.util.Constants.COMMENT_STREAM_BUFFER_SIZE;
+
+/**
+ * 게시글별 댓글 변경(작성 / 수정 / 삭제) SSE 구독 관리
+ * 구독자마다 크기가 정해진 버퍼를 두고 전송 스레드가 비워 나간다. 버퍼가 가득 찰 만큼 느린 구독자는 연결을 끊고,
+ * 클라이언트는 재연결 후 댓글 목록을 한 번 다시 조회하면 된다.
+ * 아무 변경이 없는 연결에는 heartbeat 주석만 보내고, timeout 이 지나면 닫는다.
+ */
+@Component
+public class CommentStreamHub {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private final Map<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final long timeoutMs;
+
+    @Autowired
+    public CommentStreamHub(MeterRegistry meterRegistry,
+                            @Value("${moge.board.comment-stream.timeout-ms:300000}") long timeoutMs,
+                            @Value("${moge.board.comment-stream.sender-threads:2}") int senderThreads) {
+        this.timeoutMs = timeoutMs;
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "moge-comment-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("moge.board.comment-stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("댓글 SSE 구독 중인 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(int boardIdx) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(boardIdx, emitter);
+        // 마지막 구독자가 빠지며 set 이 제거되는 것과 겹치지 않도록 compute 안에서 추가
+        subscribers.compute(boardIdx, (key, boardSubscribers) -> {
+            Set<Subscriber> set = boardSubscribers == null ? ConcurrentHashMap.newKeySet() : boardSubscribers;
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        // 연결 직후 한 번 보내 응답 헤더가 바로 내려가게 함
+        enqueue(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /* 게시글이 없는 경우 등 : 에러 응답 한 건을 보내고 바로 종료 */
+    public SseEmitter reject(BaseResponseStatus status) {
+        SseEmitter emitter = new SseEmitter(0L);
+        try {
+            emitter.send(SseEmitter.event().name("error").data(new BaseResponse<>(status)));
+            emitter.complete();
+        } catch (Exception exception) {
+            emitter.completeWithError(exception);
+        }
+        return emitter;
+    }
+
+    /* 트랜잭션 안에서 호출되면 커밋 이후에 발행 -> 롤백된 변경은 나가지 않음 */
+    public void publish(int boardIdx, CommentEventRes event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(boardIdx, event);
+                }
+            });
+        } else {
+            dispatch(boardIdx, event);
+        }
+    }
+
+    /* 게시글이 비활성화되면 구독도 모두 종료 */
+    public void closeBoard(int boardIdx) {
+        Set<Subscriber> boardSubscribers = subscribers.get(boardIdx);
+        if (boardSubscribers != null) {
+            boardSubscribers.forEach(this::close);
+        }
+    }
+
+    private void dispatch(int boardIdx, CommentEventRes event) {
+        Set<Subscriber> boardSubscribers = subscribers.get(boardIdx);
+        if (boardSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : boardSubscribers) {
+            enqueue(subscriber, SseEmitter.event().name(event.getType()).data(event));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${moge.board.comment-stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> boardSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : boardSubscribers) {
+                // 보낼 이벤트가 쌓여 있는 연결은 heartbeat 가 필요 없음
+                if (subscriber.buffer.isEmpty()) {
+                    enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.buffer.offer(event)) {
+            logger.info("Comment stream subscriber on board {} fell behind, closing", subscriber.boardIdx);
+            close(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (subscriber.active.get() && (event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (Exception exception) {
+            // 클라이언트가 연결을 끊은 경우
+            close(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // drain 을 끝내는 사이에 들어온 이벤트
+        if (subscriber.active.get() && !subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (unsubscribe(subscriber)) {
+            try {
+                subscriber.emitter.complete();
+            } catch (Exception exception) {
+                logger.debug("Comment stream already closed", exception);
+            }
+        }
+    }
+
+    private boolean unsubscribe(Subscriber subscriber) {
+        if (!subscriber.active.compareAndSet(true, false)) {
+            return false;
+        }
+        subscriber.buffer.clear();
+        subscribers.computeIfPresent(subscriber.boardIdx, (key, boardSubscribers) -> {
+            boardSubscribers.remove(subscriber);
+            return boardSubscribers.isEmpty() ? null : boardSubscribers;
+        });
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(boardSubscribers -> boardSubscribers.forEach(this::close));
+        sender.shutdownNow();
+    }
+
+    private static class Subscriber {
+        private final int boardIdx;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(COMMENT_STREAM_BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean active = new AtomicBoolean(true);
+
+        Subscriber(int boardIdx, SseEmitter emitter) {
+            this.boardIdx = boardIdx;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.moge.moge.domain.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moge.moge.domain.board.dao.BoardDao;
+import com.moge.moge.domain.board.dto.res.GetBoardQuizAnswerRes;
+import com.moge.moge.domain.board.dto.res.GetBoardQuizRes;
+import com.moge.moge.domain.board.dto.res.GetBoardQuizSessionRes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글별 퀴즈 풀이 세션 캐시 (boardIdx -> 퀴즈 + 보기 전체)
+ * 퀴즈 목록과 보기 목록을 게시글 단위 쿼리 두 번으로 읽어 퀴즈별로 묶어 둔다.
+ * 퀴즈나 보기가 추가되면 해당 게시글만 무효화하고, 다른 서버의 변경은 TTL 만큼 늦게 반영된다.
+ */
+@Component
+public class QuizSessionCache {
+
+    private final BoardDao boardDao;
+    private final Cache<Integer, GetBoardQuizSessionRes> cache;
+
+    @Autowired
+    public QuizSessionCache(BoardDao boardDao, MeterRegistry meterRegistry,
+                            @Value("${moge.board.quiz-session.max-size:1000}") long maxSize,
+                            @Value("${moge.board.quiz-session.ttl-minutes:10}") long ttlMinutes) {
+        this.boardDao = boardDao;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "quizSession");
+    }
+
+    public GetBoardQuizSessionRes get(int boardIdx) {
+        return cache.get(boardIdx, this::load);
+    }
+
+    private GetBoardQuizSessionRes load(int boardIdx) {
+        List<GetBoardQuizRes> quizzes = boardDao.getBoardQuiz(boardIdx);
+        Map<Integer, List<GetBoardQuizAnswerRes>> answers = new LinkedHashMap<>();
+        for (GetBoardQuizRes quiz : quizzes) {
+            answers.put(quiz.getQuizIdx(), new ArrayList<>());
+        }
+        for (GetBoardQuizAnswerRes answer : boardDao.getBoardQuizAnswersByBoard(boardIdx)) {
+            List<GetBoardQuizAnswerRes> quizAnswers = answers.get(answer.getQuizIdx());
+            // 두 쿼리 사이에 추가된 퀴즈의 보기는 다음 로드에서 반영
+            if (quizAnswers != null) {
+                quizAnswers.add(answer);
+            }
+        }
+
+        List<GetBoardQuizSessionRes.Quiz> session = new ArrayList<>(quizzes.size());
+        for (GetBoardQuizRes quiz : quizzes) {
+            session.add(new GetBoardQuizSessionRes.Quiz(quiz.getQuizIdx(), quiz.getQuizType(), quiz.getQuestion(),
+                    Collections.unmodifiableList(answers.get(quiz.getQuizIdx())), null));
+        }
+        return new GetBoardQuizSessionRes(boardIdx, Collections.unmodifiableList(session));
+    }
+
+    /* 퀴즈 추가 : 해당 게시글 */
+    public void evictBoard(int boardIdx) {
+        evictAfterCommit(() -> cache.invalidate(boardIdx));
+    }
+
+    /* 보기 추가 : 해당 퀴즈가 들어있는 게시글 */
+    public void evictQuiz(int quizIdx) {
+        evictAfterCommit(() -> cache.asMap().values()
+                .removeIf(session -> session.getQuizzes().stream().anyMatch(quiz -> quiz.getQuizIdx() == quizIdx)));
+    }
+
+    /* 트랜잭션 안에서 호출되면 커밋 이후에 무효화 -> 커밋 전 값이 다시 캐시되는 것을 막음 */
+    private void evictAfterCommit(Runnable evict) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dao.BoardDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 추천 키워드 샘플러
+ * Recommend 테이블 전체를 불변 배열로 메모리에 두고 주기적으로 다시 읽는다.
+ * 조회 시에는 부분 Fisher-Yates 셔플로 서로 다른 키워드 k 개를 뽑으므로 쿼리가 없고, 식별자가 비어 있어도 영향이 없다.
+ */
+@Component
+public class RecommendKeywordSampler {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final BoardDao boardDao;
+
+    private volatile String[] keywords;
+
+    @Autowired
+    public RecommendKeywordSampler(BoardDao boardDao) {
+        this.boardDao = boardDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (Exception exception) {
+            logger.error("Recommend keyword load failed, retrying on first request", exception);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${moge.board.recommend.reload-ms:600000}")
+    public void scheduledReload() {
+        if (keywords == null) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception exception) {
+            logger.error("Recommend keyword reload failed", exception);
+        }
+    }
+
+    private void reload() {
+        keywords = boardDao.getRecommendKeywords().toArray(new String[0]);
+    }
+
+    /* 서로 다른 키워드를 최대 size 개 (전체가 size 보다 적으면 전체) */
+    public List<String> sample(int size) {
+        String[] snapshot = keywords;
+        if (snapshot == null) {
+            synchronized (this) {
+                if (keywords == null) {
+                    reload();
+                }
+                snapshot = keywords;
+            }
+        }
+
+        int count = Math.min(size, snapshot.length);
+        List<String> result = new ArrayList<>(count);
+        // 배열을 복사하지 않고, 자리를 바꾼 위치만 map 에 기록하는 부분 Fisher-Yates
+        Map<Integer, Integer> swapped = new HashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            int j = random.nextInt(i, snapshot.length);
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            result.add(snapshot[picked]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dao.BoardDao;
+import com.moge.moge.domain.board.dao.BoardStatsDao;
+import com.moge.moge.domain.board.dto.res.CommentEventRes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.moge.moge.global.util.Constants.REPORT_DEACTIVATE_THRESHOLD;
+
+/**
+ * 신고 후처리 워커
+ * 요청 경로에서는 신고 insert 와 대상의 신고 수 증가만 한 트랜잭션으로 하고, 임계치 도달 시 비활성화 / 캐시 무효화는
+ * 커밋 이후 이 워커의 단일 스레드에서 처리한다.
+ * 비활성화 update 는 status = 'ACTIVE' and reportCount >= 임계치 조건이라 임계치를 넘는 순간 정확히 한 번만 적용된다.
+ */
+@Component
+public class ReportModerationWorker {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final BoardDao boardDao;
+    private final BoardStatsDao boardStatsDao;
+    private final BoardStatusCache boardStatusCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardFeedCache boardFeedCache;
+    private final BoardTopRanking boardTopRanking;
+    private final CommentStreamHub commentStreamHub;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "moge-report-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public ReportModerationWorker(BoardDao boardDao, BoardStatsDao boardStatsDao, BoardStatusCache boardStatusCache,
+                                  BoardSearchIndex boardSearchIndex, BoardFeedCache boardFeedCache, BoardTopRanking boardTopRanking,
+                                  CommentStreamHub commentStreamHub) {
+        this.boardDao = boardDao;
+        this.boardStatsDao = boardStatsDao;
+        this.boardStatusCache = boardStatusCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardFeedCache = boardFeedCache;
+        this.boardTopRanking = boardTopRanking;
+        this.commentStreamHub = commentStreamHub;
+    }
+
+    public void boardReported(int boardIdx) {
+        executeAfterCommit(() -> {
+            try {
+                if (boardDao.deactivateReportedBoard(boardIdx, REPORT_DEACTIVATE_THRESHOLD) == 1) {
+                    boardStatusCache.markInactive(boardIdx);
+                    boardSearchIndex.remove(boardIdx);
+                    boardTopRanking.remove(boardIdx);
+                    boardFeedCache.evictBoard(boardIdx);
+                    commentStreamHub.closeBoard(boardIdx);
+                    logger.info("Board {} deactivated by reports", boardIdx);
+                }
+            } catch (Exception exception) {
+                logger.error("Board report moderation failed for boardIdx {}", boardIdx, exception);
+            }
+        });
+    }
+
+    public void commentReported(int boardIdx, int commentIdx) {
+        executeAfterCommit(() -> {
+            try {
+                if (boardDao.deactivateReportedComment(commentIdx, REPORT_DEACTIVATE_THRESHOLD) == 1) {
+                    boardStatsDao.updateCommentCount(boardIdx, -1);
+                    boardFeedCache.evictBoard(boardIdx);
+                    commentStreamHub.publish(boardIdx, new CommentEventRes(CommentStreamHub.DELETED, commentIdx, null, null, null));
+                    logger.info("Comment {} deactivated by reports", commentIdx);
+                }
+            } catch (Exception exception) {
+                logger.error("Comment report moderation failed for commentIdx {}", commentIdx, exception);
+            }
+        });
+    }
+
+    /* 트랜잭션 안에서 호출되면 커밋 이후에 넘김 -> 워커가 커밋 전의 신고 수를 읽지 않음 */
+    private void executeAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(task);
+                }
+            });
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Report worker did not finish pending tasks before shutdown");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.moge.moge.domain.board.service;
+
+import com.moge.moge.domain.board.dao.BoardDao;
+import com.moge.moge.global.util.CounterBuffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 조회수를 메모리에 모아두었다가 주기적으로 한 번의 batch update 로 반영
+ * moge.board.view-count.mode 가 sync 이면 기존처럼 조회마다 바로 update 한다.
+ */
+@Component
+public class ViewCountBuffer {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final BoardDao boardDao;
+    private final boolean buffered;
+    private final CounterBuffer<Integer> pending = new CounterBuffer<>(1);
+    private volatile long lastFlushedAt = System.currentTimeMillis();
+
+    @Autowired
+    public ViewCountBuffer(BoardDao boardDao, MeterRegistry meterRegistry,
+                           @Value("${moge.board.view-count.mode:buffered}") String mode) {
+        this.boardDao = boardDao;
+        this.buffered = !"sync".equalsIgnoreCase(mode);
+
+        Gauge.builder("moge.board.view-count.pending", this, ViewCountBuffer::getPendingCount)
+                .description("아직 DB에 반영되지 않은 조회수")
+                .register(meterRegistry);
+        Gauge.builder("moge.board.view-count.flush-lag", this, ViewCountBuffer::getFlushLagSeconds)
+                .description("마지막으로 flush 에 성공한 뒤 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isBuffered() {
+        return buffered;
+    }
+
+    public void increment(int boardIdx) {
+        pending.add(boardIdx, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${moge.board.view-count.flush-ms:1000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception exception) {
+            logger.error("View count flush failed", exception);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception exception) {
+            logger.error("View count flush on shutdown failed, {} views lost", getPendingCount(), exception);
+        }
+    }
+
+    /* 반영한 게시글은 버퍼에서 빠지고, batch 가 실패하면 다음 flush 로 넘어감 */
+    public void flush() {
+        pending.flush(deltas -> {
+            List<Integer> boardIdxList = new ArrayList<>(deltas.keySet());
+            List<Long> viewCounts = new ArrayList<>(deltas.size());
+            for (long[] delta : deltas.values()) {
+                viewCounts.add(delta[0]);
+            }
+            boardDao.updateViewCounts(boardIdxList, viewCounts);
+        });
+        lastFlushedAt = System.currentTimeMillis();
+    }
+
+    private double getPendingCount() {
+        return pending.total(0);
+    }
+
+    private double getFlushLagSeconds() {
+        return (System.currentTimeMillis() - lastFlushedAt) / 1000.0;
+    }
+}
@@ -2,12 +2,20 @@ package com.moge.moge.domain.quiz.controller;
 
 import com.moge.moge.domain.quiz.dto.req.PostQuizPointReq;
 import com.moge.moge.domain.quiz.dto.res.GetDailyQuizRes;
+import com.moge.moge.domain.quiz.dto.res.GetQuizStatsRes;
+import com.moge.moge.domain.quiz.dto.res.GetRankingRes;
+import com.moge.moge.domain.quiz.dto.res.GetUserRankingRes;
+import com.moge.moge.domain.quiz.service.QuizProvider;
 import com.moge.moge.domain.quiz.service.QuizService;
 import com.moge.moge.domain.quiz.dto.req.PostBoardReq;
 import com.moge.moge.domain.quiz.dto.req.PostQuizAnswerReq;
+import com.moge.moge.domain.quiz.dto.req.PostQuizBoardReq;
+import com.moge.moge.domain.quiz.dto.req.PostQuizGradeReq;
 import com.moge.moge.domain.quiz.dto.req.PostQuizReq;
 import com.moge.moge.domain.quiz.dto.res.PostBoardRes;
 import com.moge.moge.domain.quiz.dto.res.PostQuizAnswerRes;
+import com.moge.moge.domain.quiz.dto.res.PostQuizBoardRes;
+import com.moge.moge.domain.quiz.dto.res.PostQuizGradeRes;
 import com.moge.moge.domain.quiz.dto.res.PostQuizRes;
 import com.moge.moge.global.common.BaseResponse;
 import com.moge.moge.global.exception.BaseException;
@@ -16,7 +24,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
 
-import static com.moge.moge.global.exception.BaseResponseStatus.SUCCESS_UPDATE_POINT;
+import java.util.List;
+
+import static com.moge.moge.global.util.Constants.DEFAULT_PAGE_SIZE;
+import static com.moge.moge.global.util.Constants.DEFAULT_RANKING_RANGE;
 
 @RestController
 @RequestMapping("/app/quiz")
@@ -24,12 +35,14 @@ public class QuizController {
 
     private final ValidationUtils validationUtils;
     private final QuizService quizService;
+    private final QuizProvider quizProvider;
 
     final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public QuizController(ValidationUtils validationUtils, QuizService quizService) {
+    public QuizController(ValidationUtils validationUtils, QuizService quizService, QuizProvider quizProvider) {
         this.validationUtils = validationUtils;
         this.quizService = quizService;
+        this.quizProvider = quizProvider;
     }
 
     /* 퀴즈 게시물 등록 */
@@ -44,6 +57,18 @@ public class QuizController {
         }
     }
 
+    /* 퀴즈 게시물 일괄 등록 : 게시물, 퀴즈, 정답을 한 번의 요청으로 */
+    @ResponseBody
+    @PostMapping("/boards/bulk")
+    public BaseResponse<PostQuizBoardRes> createQuizBoard(@RequestBody PostQuizBoardReq postQuizBoardReq) {
+        try {
+            int userIdx = validationUtils.checkJwtTokenExists();
+            return new BaseResponse<>(quizService.createQuizBoard(userIdx, postQuizBoardReq));
+        } catch (BaseException exception) {
+            return new BaseResponse<>((exception.getStatus()));
+        }
+    }
+
     /* 퀴즈 등록 */
     @ResponseBody
     @PostMapping("")
@@ -68,14 +93,38 @@ public class QuizController {
         }
     }
 
-    /* 포인트 획득 */
+    /* 퀴즈 채점 : 제출한 답을 서버에서 채점하고 맞으면 포인트 지급 */
+    @ResponseBody
+    @PostMapping("/{quizIdx}/grade")
+    public BaseResponse<PostQuizGradeRes> gradeQuiz(@PathVariable("quizIdx") int quizIdx,
+                                                    @RequestBody PostQuizGradeReq postQuizGradeReq) {
+        try {
+            int userIdx = validationUtils.checkJwtTokenExists();
+            return new BaseResponse<>(quizService.gradeQuiz(userIdx, quizIdx, postQuizGradeReq));
+        } catch (BaseException exception) {
+            return new BaseResponse<>((exception.getStatus()));
+        }
+    }
+
+    /* 퀴즈 정답률 조회 */
+    @ResponseBody
+    @GetMapping("/{quizIdx}/stats")
+    public BaseResponse<GetQuizStatsRes> getQuizStats(@PathVariable("quizIdx") int quizIdx) {
+        try {
+            validationUtils.checkJwtTokenExists();
+            return new BaseResponse<>(quizProvider.getQuizStats(quizIdx));
+        } catch (BaseException exception) {
+            return new BaseResponse<>((exception.getStatus()));
+        }
+    }
+
+    /* 포인트 획득 : 답을 함께 보내야 하며 채점 결과를 반환 */
     @ResponseBody
     @PostMapping("/points")
-    public BaseResponse<String> updatePoints(@RequestBody PostQuizPointReq postQuizPointReq) {
+    public BaseResponse<PostQuizGradeRes> updatePoints(@RequestBody PostQuizPointReq postQuizPointReq) {
         try {
             int userIdx = validationUtils.checkJwtTokenExists();
-            quizService.updatePoints(userIdx, postQuizPointReq);
-            return new BaseResponse<>(SUCCESS_UPDATE_POINT);
+            return new BaseResponse<>(quizService.updatePoints(userIdx, postQuizPointReq));
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
@@ -93,5 +142,34 @@ public class QuizController {
         }
     }
 
+    /* 포인트 랭킹 조회 : categoryIdx 가 없으면 전체 랭킹 */
+    @ResponseBody
+    @GetMapping("/ranking")
+    public BaseResponse<List<GetRankingRes>> getRanking(@RequestParam(value = "categoryIdx", required = false) Integer categoryIdx,
+                                                        @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            validationUtils.checkJwtTokenExists();
+            int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : size;
+            return new BaseResponse<>(quizProvider.getRanking(categoryIdx, pageSize));
+        } catch (BaseException exception) {
+            return new BaseResponse<>((exception.getStatus()));
+        }
+    }
+
+    /* 유저 순위 조회 : 순위와 앞뒤 range 명 */
+    @ResponseBody
+    @GetMapping("/ranking/{userIdx}")
+    public BaseResponse<GetUserRankingRes> getUserRanking(@PathVariable("userIdx") int userIdx,
+                                                          @RequestParam(value = "categoryIdx", required = false) Integer categoryIdx,
+                                                          @RequestParam(value = "range", required = false) Integer range) {
+        try {
+            validationUtils.checkJwtTokenExists();
+            int rankingRange = (range == null) ? DEFAULT_RANKING_RANGE : range;
+            return new BaseResponse<>(quizProvider.getUserRanking(categoryIdx, userIdx, rankingRange));
+        } catch (BaseException exception) {
+            return new BaseResponse<>((exception.getStatus()));
+        }
+    }
+
     /**/
 }
@@ -0,0 +1,177 @@
+package com.moge.moge.domain.quiz.dao;
+
+import com.moge.moge.domain.quiz.dto.res.GetRankingRes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class PointDao {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource){
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* 지급 이력 1건 기록, 같은 유저 / 퀴즈로 이미 지급했으면 0 */
+    public int createPointEvent(int userIdx, int quizIdx, int delta) {
+        String createPointEventQuery = "insert ignore into PointEvent(userIdx, quizIdx, delta) values(?, ?, ?)";
+        Object[] params = new Object[]{userIdx, quizIdx, delta};
+        return this.jdbcTemplate.update(createPointEventQuery, params);
+    }
+
+    /* 유저가 포인트를 받은(푼) 퀴즈 목록 : (userIdx, quizIdx) unique key 로 인덱스만 읽음 */
+    public List<Integer> getSolvedQuizIdx(int userIdx) {
+        String getSolvedQuizIdxQuery = "select quizIdx from PointEvent where userIdx = ?";
+        return this.jdbcTemplate.queryForList(getSolvedQuizIdxQuery, Integer.class, userIdx);
+    }
+
+    /* 아직 잔액에 반영되지 않은 이력을 잠그고 가져옴, 다른 서버가 잠근 행은 건너뜀 (트랜잭션 안에서 호출) */
+    public List<Long> lockPendingPointEvents(int limit) {
+        String lockPendingPointEventsQuery =
+                "select pointEventIdx\n" +
+                "from PointEvent\n" +
+                "where aggregated = 0\n" +
+                "order by pointEventIdx limit ?\n" +
+                "for update skip locked";
+        return this.jdbcTemplate.queryForList(lockPendingPointEventsQuery, Long.class, limit);
+    }
+
+    /* 유저별 합계, userIdx 순서로 반환해 서버 간 User 행 잠금 순서를 맞춤 */
+    public Map<Integer, Integer> sumPointEventsByUser(List<Long> pointEventIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(pointEventIdxList.size(), "?"));
+        String sumPointEventsByUserQuery =
+                "select userIdx, sum(delta) as delta\n" +
+                "from PointEvent\n" +
+                "where pointEventIdx in (" + placeholders + ")\n" +
+                "group by userIdx\n" +
+                "order by userIdx";
+        return this.jdbcTemplate.query(sumPointEventsByUserQuery, rs -> {
+            Map<Integer, Integer> deltaByUser = new LinkedHashMap<>();
+            while (rs.next()) {
+                deltaByUser.put(rs.getInt("userIdx"), rs.getInt("delta"));
+            }
+            return deltaByUser;
+        }, pointEventIdxList.toArray());
+    }
+
+    /* 유저별 합계를 한 번씩 반영 */
+    public int[] addUserPoints(Map<Integer, Integer> deltaByUser) {
+        String addUserPointsQuery = "update User set userPoint = userPoint + ? where userIdx = ?";
+        List<Object[]> params = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> delta : deltaByUser.entrySet()) {
+            params.add(new Object[]{delta.getValue(), delta.getKey()});
+        }
+        return this.jdbcTemplate.batchUpdate(addUserPointsQuery, params);
+    }
+
+    public int markAggregated(List<Long> pointEventIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(pointEventIdxList.size(), "?"));
+        String markAggregatedQuery = "update PointEvent set aggregated = 1 where pointEventIdx in (" + placeholders + ")";
+        return this.jdbcTemplate.update(markAggregatedQuery, pointEventIdxList.toArray());
+    }
+
+    /* 랭킹 적재용 : userIdx 이후의 유저별 포인트(잔액 + 미반영 합계)를 userIdx 순서로 */
+    public Map<Integer, Integer> getUserPoints(int lastUserIdx, int limit) {
+        String getUserPointsQuery =
+                "select U.userIdx, U.userPoint + ifnull(P.pending, 0) as point\n" +
+                "from User U\n" +
+                "    left join (select userIdx, sum(delta) as pending from PointEvent where aggregated = 0 group by userIdx) P\n" +
+                "        on P.userIdx = U.userIdx\n" +
+                "where U.userIdx > ? and U.status != 'DELETE'\n" +
+                "order by U.userIdx limit ?";
+        Object[] params = new Object[]{lastUserIdx, limit};
+        return this.jdbcTemplate.query(getUserPointsQuery, rs -> {
+            Map<Integer, Integer> points = new LinkedHashMap<>();
+            while (rs.next()) {
+                points.put(rs.getInt("userIdx"), rs.getInt("point"));
+            }
+            return points;
+        }, params);
+    }
+
+    /* 카테고리 랭킹 적재용 : categoryIdx -> (userIdx -> 해당 카테고리 퀴즈로 얻은 포인트) */
+    public Map<Integer, Map<Integer, Integer>> getCategoryPoints() {
+        String getCategoryPointsQuery =
+                "select P.userIdx, B.categoryIdx, sum(P.delta) as point\n" +
+                "from PointEvent P\n" +
+                "    join Quiz Q on Q.quizIdx = P.quizIdx\n" +
+                "    join Board B on B.boardIdx = Q.boardIdx\n" +
+                "    join User U on U.userIdx = P.userIdx and U.status != 'DELETE'\n" +
+                "group by P.userIdx, B.categoryIdx";
+        return this.jdbcTemplate.query(getCategoryPointsQuery, rs -> {
+            Map<Integer, Map<Integer, Integer>> points = new HashMap<>();
+            while (rs.next()) {
+                points.computeIfAbsent(rs.getInt("categoryIdx"), key -> new HashMap<>())
+                        .put(rs.getInt("userIdx"), rs.getInt("point"));
+            }
+            return points;
+        });
+    }
+
+    /* 랭킹 재적재 중 포인트를 받은 유저들의 현재 포인트 (getUserPoints 와 같은 기준) */
+    public Map<Integer, Integer> getUserPointsByUsers(List<Integer> userIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(userIdxList.size(), "?"));
+        String getUserPointsByUsersQuery =
+                "select U.userIdx, U.userPoint + ifnull(P.pending, 0) as point\n" +
+                "from User U\n" +
+                "    left join (select userIdx, sum(delta) as pending from PointEvent\n" +
+                "               where aggregated = 0 and userIdx in (" + placeholders + ") group by userIdx) P\n" +
+                "        on P.userIdx = U.userIdx\n" +
+                "where U.userIdx in (" + placeholders + ") and U.status != 'DELETE'";
+        List<Object> params = new ArrayList<>(userIdxList);
+        params.addAll(userIdxList);
+        return this.jdbcTemplate.query(getUserPointsByUsersQuery, rs -> {
+            Map<Integer, Integer> points = new HashMap<>();
+            while (rs.next()) {
+                points.put(rs.getInt("userIdx"), rs.getInt("point"));
+            }
+            return points;
+        }, params.toArray());
+    }
+
+    /* 위와 같은 유저들의 카테고리별 포인트 : categoryIdx -> (userIdx -> 포인트) */
+    public Map<Integer, Map<Integer, Integer>> getCategoryPointsByUsers(List<Integer> userIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(userIdxList.size(), "?"));
+        String getCategoryPointsByUsersQuery =
+                "select P.userIdx, B.categoryIdx, sum(P.delta) as point\n" +
+                "from PointEvent P\n" +
+                "    join Quiz Q on Q.quizIdx = P.quizIdx\n" +
+                "    join Board B on B.boardIdx = Q.boardIdx\n" +
+                "    join User U on U.userIdx = P.userIdx and U.status != 'DELETE'\n" +
+                "where P.userIdx in (" + placeholders + ")\n" +
+                "group by P.userIdx, B.categoryIdx";
+        return this.jdbcTemplate.query(getCategoryPointsByUsersQuery, rs -> {
+            Map<Integer, Map<Integer, Integer>> points = new HashMap<>();
+            while (rs.next()) {
+                points.computeIfAbsent(rs.getInt("categoryIdx"), key -> new HashMap<>())
+                        .put(rs.getInt("userIdx"), rs.getInt("point"));
+            }
+            return points;
+        }, userIdxList.toArray());
+    }
+
+    /* 랭킹 응답용 닉네임 / 프로필 이미지 */
+    public Map<Integer, GetRankingRes> getRankingUsers(List<Integer> userIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(userIdxList.size(), "?"));
+        String getRankingUsersQuery = "select userIdx, nickname, profileImage from User where userIdx in (" + placeholders + ")";
+        return this.jdbcTemplate.query(getRankingUsersQuery, rs -> {
+            Map<Integer, GetRankingRes> users = new HashMap<>();
+            while (rs.next()) {
+                users.put(rs.getInt("userIdx"),
+                        new GetRankingRes(0, rs.getInt("userIdx"), rs.getString("nickname"), rs.getString("profileImage"), 0));
+            }
+            return users;
+        }, userIdxList.toArray());
+    }
+}
@@ -2,17 +2,26 @@ package com.moge.moge.domain.quiz.dao;
 
 import com.moge.moge.domain.quiz.dto.req.PostBoardReq;
 import com.moge.moge.domain.quiz.dto.req.PostQuizAnswerReq;
+import com.moge.moge.domain.quiz.dto.req.PostQuizBoardReq;
 import com.moge.moge.domain.quiz.dto.req.PostQuizPointReq;
 import com.moge.moge.domain.quiz.dto.req.PostQuizReq;
 import com.moge.moge.domain.quiz.dto.res.GetDailyQuizRes;
 import com.moge.moge.domain.quiz.dto.res.PostBoardRes;
 import com.moge.moge.domain.quiz.dto.res.PostQuizAnswerRes;
+import com.moge.moge.domain.quiz.dto.res.GetQuizTypeRes;
 import com.moge.moge.domain.quiz.dto.res.PostQuizRes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Repository
 public class QuizDao {
@@ -25,33 +34,73 @@ public class QuizDao {
     }
 
     public PostBoardRes createBoard(int userIdx, PostBoardReq postBoardReq) {
-        String createBoardQuery = "insert into Board(title, userIdx, categoryIdx) values(?, ?, ?)";
-        Object[] createBoardParams = new Object[] {
-                postBoardReq.getTitle(),
-                userIdx,
-                postBoardReq.getCategoryIdx()
-        };
-        this.jdbcTemplate.update(createBoardQuery, createBoardParams);
-        String lastInsertIdQuery = "select last_insert_id()";
-        int boardIdx = this.jdbcTemplate.queryForObject(lastInsertIdQuery, int.class);
+        int boardIdx = createBoard(userIdx, postBoardReq.getCategoryIdx(), postBoardReq.getTitle());
         return new PostBoardRes(boardIdx, postBoardReq.getCategoryIdx(), userIdx, postBoardReq.getTitle());
     }
 
+    /* 생성된 boardIdx 를 insert 응답에서 바로 받음 (last_insert_id 조회 없음) */
+    public int createBoard(int userIdx, int categoryIdx, String title) {
+        String createBoardQuery = "insert into Board(title, userIdx, categoryIdx) values(?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(createBoardQuery, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, title);
+            statement.setInt(2, userIdx);
+            statement.setInt(3, categoryIdx);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().intValue();
+    }
 
     public PostQuizRes createQuiz(PostQuizReq postQuizReq) {
         String createQuizQuery = "insert into Quiz(question, quizType, boardIdx) values(?, ?, ?)";
-        Object[] createQuizParams = new Object[] {
-                postQuizReq.getQuestion(),
-                postQuizReq.getQuizType(),
-                postQuizReq.getBoardIdx()
-        };
-
-        this.jdbcTemplate.update(createQuizQuery, createQuizParams);
-        String lastInsertIdQuery = "select last_insert_id()";
-        int quizIdx = this.jdbcTemplate.queryForObject(lastInsertIdQuery, int.class);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(createQuizQuery, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, postQuizReq.getQuestion());
+            statement.setInt(2, postQuizReq.getQuizType());
+            statement.setInt(3, postQuizReq.getBoardIdx());
+            return statement;
+        }, keyHolder);
+        int quizIdx = keyHolder.getKey().intValue();
         return new PostQuizRes(postQuizReq.getQuestion(), postQuizReq.getQuizType(), postQuizReq.getBoardIdx(), quizIdx);
     }
 
+    /* 여러 퀴즈를 multi-row insert 한 번으로 생성하고, 생성된 quizIdx 를 요청 순서대로 반환 */
+    public List<Integer> createQuizzes(int boardIdx, List<PostQuizBoardReq.Quiz> quizzes) {
+        StringBuilder createQuizzesQuery = new StringBuilder("insert into Quiz(question, quizType, boardIdx) values ");
+        for (int i = 0; i < quizzes.size(); i++) {
+            createQuizzesQuery.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(createQuizzesQuery.toString(), Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (PostQuizBoardReq.Quiz quiz : quizzes) {
+                statement.setString(index++, quiz.getQuestion());
+                statement.setInt(index++, quiz.getQuizType());
+                statement.setInt(index++, boardIdx);
+            }
+            return statement;
+        }, keyHolder);
+
+        List<Integer> quizIdxList = new ArrayList<>();
+        for (Map<String, Object> key : keyHolder.getKeyList()) {
+            quizIdxList.add(((Number) key.values().iterator().next()).intValue());
+        }
+        return quizIdxList;
+    }
+
+    public int[] createObjectiveAnswers(List<Object[]> answers) {
+        String createObjectiveAnswersQuery = "insert into ObjectiveAnswer(content, isAnswer, quizIdx) values(?, ?, ?)";
+        return this.jdbcTemplate.batchUpdate(createObjectiveAnswersQuery, answers);
+    }
+
+    public int[] createSubjectiveAnswers(List<Object[]> answers) {
+        String createSubjectiveAnswersQuery = "insert into SubjectiveAnswer(hint, content, isAnswer, quizIdx) values(?, ?, ?, ?)";
+        return this.jdbcTemplate.batchUpdate(createSubjectiveAnswersQuery, answers);
+    }
+
     public PostQuizAnswerRes createSubjectiveAnswer(PostQuizAnswerReq postQuizAnswerReq) {
         String createSubjectiveAnswerQuery = "insert into SubjectiveAnswer(hint, content, isAnswer, quizIdx) values(?, ?, ?, ?)";
         Object[] createSubjectiveParams = new Object[] {
@@ -75,51 +124,53 @@ public class QuizDao {
         return new PostQuizAnswerRes(postQuizAnswerReq.getContent(), postQuizAnswerReq.getIsAnswer(), postQuizAnswerReq.getQuizIdx());
     }
 
-    public int getQuizType(int quizIdx) {
-        String getQuizTypeQuery = "select quizType from Quiz where quizIdx = ? and status = 'ACTIVE'";
-        System.out.println("타입 : " + this.jdbcTemplate.queryForObject(getQuizTypeQuery, int.class, quizIdx));
-        return this.jdbcTemplate.queryForObject(getQuizTypeQuery, int.class, quizIdx);
+    /* ACTIVE 퀴즈가 아니면 null */
+    public GetQuizTypeRes getActiveQuizType(int quizIdx) {
+        String getActiveQuizTypeQuery =
+                "select Q.quizType, B.categoryIdx\n" +
+                "from Quiz Q\n" +
+                "    join Board B on B.boardIdx = Q.boardIdx\n" +
+                "where Q.quizIdx = ? and Q.status = 'ACTIVE'";
+        List<GetQuizTypeRes> quizTypes = this.jdbcTemplate.query(getActiveQuizTypeQuery,
+                (rs, rowNum) -> new GetQuizTypeRes(
+                        rs.getInt("quizType"),
+                        rs.getInt("categoryIdx")
+                ), quizIdx);
+        return quizTypes.isEmpty() ? null : quizTypes.get(0);
     }
 
-    public int updatePointsByObjective(int userIdx, int quizIdx) {
-        String updatePointsByObjectiveQuery =
-                "update User U\n" +
-                "    left join Quiz Q ON Q.quizIdx = ?\n" +
-                "    left join ObjectiveAnswer O on Q.quizIdx = O.quizIdx\n" +
-                "set U.userPoint = U.userPoint + 10 \n" +
-                "where U.userIdx = ? AND O.isAnswer = 1 AND Q.status = 'ACTIVE'";
-        Object[] params = new Object[]{quizIdx, userIdx};
-        return this.jdbcTemplate.update(updatePointsByObjectiveQuery, params);
+    public List<String> getObjectiveCorrectAnswers(int quizIdx) {
+        String getObjectiveCorrectAnswersQuery = "select content from ObjectiveAnswer where quizIdx = ? and isAnswer = 1";
+        return this.jdbcTemplate.queryForList(getObjectiveCorrectAnswersQuery, String.class, quizIdx);
     }
 
-    public int updatePointsBySubjective(int userIdx, int quizIdx) {
-        String updatePointsBySubjectiveQuery =
-                "update User U\n" +
-                "    left join Quiz Q ON Q.quizIdx = ?\n" +
-                "    left join SubjectiveAnswer S on Q.quizIdx = S.quizIdx\n" +
-                "set U.userPoint = U.userPoint + 10 \n" +
-                "where U.userIdx = ? AND S.isAnswer = 1 AND Q.status = 'ACTIVE'";
-        Object[] params = new Object[]{quizIdx, userIdx};
-        return this.jdbcTemplate.update(updatePointsBySubjectiveQuery, params);
+    public List<String> getSubjectiveCorrectAnswers(int quizIdx) {
+        String getSubjectiveCorrectAnswersQuery = "select content from SubjectiveAnswer where quizIdx = ? and isAnswer = 1";
+        return this.jdbcTemplate.queryForList(getSubjectiveCorrectAnswersQuery, String.class, quizIdx);
     }
 
-    public String getQuizStatus(int quizIdx) {
-        String getQuizStatusQuery = "select status from Quiz where quizIdx = ?";
-        return this.jdbcTemplate.queryForObject(getQuizStatusQuery, String.class, quizIdx);
+    /* lastQuizIdx 이후의 ACTIVE 퀴즈 식별자를 오름차순으로 최대 limit 개 */
+    public List<Integer> getActiveQuizIdx(int lastQuizIdx, int limit) {
+        String getActiveQuizIdxQuery =
+                "select quizIdx from Quiz\n" +
+                "where quizIdx > ? and status = 'ACTIVE'\n" +
+                "order by quizIdx limit ?";
+        return this.jdbcTemplate.queryForList(getActiveQuizIdxQuery, Integer.class, lastQuizIdx, limit);
     }
 
-    public GetDailyQuizRes getDailyQUiz() {
+    /* ACTIVE 퀴즈가 아니면 null */
+    public GetDailyQuizRes getDailyQuiz(int quizIdx) {
         String getDailyQuizQuery =
                 "SELECT Q.quizIdx, Q.quizType, Q.question, Q.boardIdx\n" +
                 "FROM Quiz Q\n" +
-                "WHERE Q.status = 'ACTIVE'\n" +
-                "ORDER BY RAND() limit 1";
-        return this.jdbcTemplate.queryForObject(getDailyQuizQuery,
+                "WHERE Q.quizIdx = ? AND Q.status = 'ACTIVE'";
+        List<GetDailyQuizRes> quizzes = this.jdbcTemplate.query(getDailyQuizQuery,
                 (rs, rowNum) -> new GetDailyQuizRes(
                         rs.getInt("quizIdx"),
                         rs.getInt("quizType"),
                         rs.getString("question"),
                         rs.getInt("boardIdx")
-                ));
+                ), quizIdx);
+        return quizzes.isEmpty() ? null : quizzes.get(0);
     }
 }
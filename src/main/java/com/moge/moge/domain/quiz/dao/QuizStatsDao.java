@@ -0,0 +1,52 @@
+package com.moge.moge.domain.quiz.dao;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈별 시도 수, 정답 수를 누적해두는 QuizStats 테이블 관리
+ * 정답률은 시도 기록을 count 하지 않고 이 테이블(+ 아직 반영되지 않은 메모리 증가분)로 계산한다.
+ */
+@Repository
+public class QuizStatsDao {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setDataSource(DataSource dataSource){
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* deltas[i] = {시도 수, 정답 수} */
+    public int[] updateQuizStats(List<Integer> quizIdxList, List<long[]> deltas) {
+        String updateQuizStatsQuery =
+                "insert into QuizStats(quizIdx, attemptCount, correctCount) values(?, ?, ?)\n" +
+                "on duplicate key update attemptCount = attemptCount + values(attemptCount), correctCount = correctCount + values(correctCount)";
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < quizIdxList.size(); i++) {
+            batchArgs.add(new Object[]{quizIdxList.get(i), deltas.get(i)[0], deltas.get(i)[1]});
+        }
+        return this.jdbcTemplate.batchUpdate(updateQuizStatsQuery, batchArgs);
+    }
+
+    /* quizIdx -> {시도 수, 정답 수}, 행이 없는 퀴즈는 빠짐 */
+    public Map<Integer, long[]> getQuizStats(List<Integer> quizIdxList) {
+        String placeholders = String.join(",", Collections.nCopies(quizIdxList.size(), "?"));
+        String getQuizStatsQuery = "select quizIdx, attemptCount, correctCount from QuizStats where quizIdx in (" + placeholders + ")";
+        return this.jdbcTemplate.query(getQuizStatsQuery, rs -> {
+            Map<Integer, long[]> stats = new HashMap<>();
+            while (rs.next()) {
+                stats.put(rs.getInt("quizIdx"), new long[]{rs.getLong("attemptCount"), rs.getLong("correctCount")});
+            }
+            return stats;
+        }, quizIdxList.toArray());
+    }
+}
@@ -0,0 +1,38 @@
+package com.moge.moge.domain.quiz.dto.req;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostQuizBoardReq {
+    private int categoryIdx;
+    private String title;
+    private List<Quiz> quizzes;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Quiz {
+        private String question;
+        private int quizType; // 1 : 객관식, 2 : 주관식
+        private List<Answer> answers;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Answer {
+        private String hint; // 주관식만 사용
+        private String content;
+        private int isAnswer;
+    }
+}
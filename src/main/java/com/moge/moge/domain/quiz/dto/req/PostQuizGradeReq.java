@@ -0,0 +1,12 @@
+package com.moge.moge.domain.quiz.dto.req;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostQuizGradeReq {
+    private String answer; // 객관식은 선택한 보기 내용, 주관식은 입력한 답
+}
@@ -9,4 +9,5 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class PostQuizPointReq {
     private int quizIdx;
+    private String answer; // 답 없이 포인트만 올리는 요청은 받지 않음, /{quizIdx}/grade 와 같은 채점을 거침
 }
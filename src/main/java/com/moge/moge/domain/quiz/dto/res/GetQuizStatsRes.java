@@ -0,0 +1,15 @@
+package com.moge.moge.domain.quiz.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetQuizStatsRes {
+    private int quizIdx;
+    private long attemptCount;
+    private long correctCount;
+    private int correctRate; // 정답률(%), 시도가 없으면 0
+}
@@ -0,0 +1,13 @@
+package com.moge.moge.domain.quiz.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetQuizTypeRes {
+    private int quizType;
+    private int categoryIdx; // 퀴즈가 속한 게시물의 카테고리
+}
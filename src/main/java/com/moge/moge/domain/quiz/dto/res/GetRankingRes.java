@@ -0,0 +1,18 @@
+package com.moge.moge.domain.quiz.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetRankingRes {
+    private int rank; // 동점이면 같은 순위
+    private int userIdx;
+    private String nickname;
+    private String profileImage;
+    private int point;
+}
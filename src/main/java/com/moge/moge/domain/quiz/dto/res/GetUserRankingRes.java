@@ -0,0 +1,16 @@
+package com.moge.moge.domain.quiz.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetUserRankingRes {
+    private int rank;
+    private int point;
+    private List<GetRankingRes> around; // 내 앞뒤 순위의 유저들 (나 포함)
+}
@@ -0,0 +1,17 @@
+package com.moge.moge.domain.quiz.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostQuizBoardRes {
+    private int boardIdx;
+    private List<Integer> quizIdxList; // 요청한 퀴즈 순서대로
+}
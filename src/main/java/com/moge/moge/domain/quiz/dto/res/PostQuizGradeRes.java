@@ -0,0 +1,16 @@
+package com.moge.moge.domain.quiz.dto.res;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostQuizGradeRes {
+    private int quizIdx;
+    @JsonProperty("isCorrect") // getter 가 isCorrect() 라 이름을 지정하지 않으면 "correct" 로 내려감
+    private boolean correct;
+    private int point; // 이번 채점으로 얻은 포인트
+}
@@ -0,0 +1,118 @@
+package com.moge.moge.domain.quiz.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moge.moge.domain.quiz.dao.QuizDao;
+import com.moge.moge.domain.quiz.dto.res.GetQuizTypeRes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.moge.moge.global.util.Constants.OBJECTIVE;
+
+/**
+ * 퀴즈 정답 캐시 (quizIdx -> 타입, 카테고리, 정답 목록)
+ * 채점할 때마다 Quiz / 정답 테이블을 조회하지 않도록 한 번 읽은 정답을 메모리에 둔다.
+ * 정답이 추가되거나 퀴즈가 바뀌면 invalidate 하고, 다른 서버의 변경은 TTL 만큼 늦게 반영된다.
+ */
+@Component
+public class AnswerKeyCache {
+
+    private final QuizDao quizDao;
+    private final Cache<Integer, AnswerKey> cache;
+    private final boolean decomposeJamo;
+    private final int maxTypos;
+
+    @Autowired
+    public AnswerKeyCache(QuizDao quizDao, MeterRegistry meterRegistry,
+                          @Value("${moge.quiz.answer-key.max-size:10000}") long maxSize,
+                          @Value("${moge.quiz.answer-key.ttl-minutes:60}") long ttlMinutes,
+                          @Value("${moge.quiz.subjective.decompose-jamo:true}") boolean decomposeJamo,
+                          @Value("${moge.quiz.subjective.max-typos:2}") int maxTypos) {
+        this.quizDao = quizDao;
+        this.decomposeJamo = decomposeJamo;
+        this.maxTypos = maxTypos;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "quizAnswerKey");
+    }
+
+    /* ACTIVE 퀴즈가 아니면 null (null 은 캐시하지 않음) */
+    public AnswerKey get(int quizIdx) {
+        return cache.get(quizIdx, this::load);
+    }
+
+    /* 트랜잭션 안에서 호출되면 커밋 이후에 무효화 */
+    public void invalidate(int quizIdx) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(quizIdx);
+                }
+            });
+        } else {
+            cache.invalidate(quizIdx);
+        }
+    }
+
+    private AnswerKey load(int quizIdx) {
+        GetQuizTypeRes quizType = quizDao.getActiveQuizType(quizIdx);
+        if (quizType == null) {
+            return null;
+        }
+        if (quizType.getQuizType() == OBJECTIVE) {
+            return new AnswerKey(quizType.getCategoryIdx(), quizDao.getObjectiveCorrectAnswers(quizIdx));
+        }
+        SubjectiveAnswerMatcher matcher = new SubjectiveAnswerMatcher(quizDao.getSubjectiveCorrectAnswers(quizIdx), decomposeJamo, maxTypos);
+        return new AnswerKey(quizType.getCategoryIdx(), matcher);
+    }
+
+    public static class AnswerKey {
+        private final int categoryIdx;
+        // 객관식 : 보기 내용(앞뒤 공백만 제거) / 주관식 : matcher
+        private final Set<String> objectiveAnswers = new HashSet<>();
+        private final SubjectiveAnswerMatcher subjectiveMatcher;
+
+        AnswerKey(int categoryIdx, List<String> answers) {
+            this.categoryIdx = categoryIdx;
+            this.subjectiveMatcher = null;
+            for (String answer : answers) {
+                if (answer != null) {
+                    objectiveAnswers.add(answer.trim());
+                }
+            }
+        }
+
+        AnswerKey(int categoryIdx, SubjectiveAnswerMatcher subjectiveMatcher) {
+            this.categoryIdx = categoryIdx;
+            this.subjectiveMatcher = subjectiveMatcher;
+        }
+
+        public int getCategoryIdx() {
+            return categoryIdx;
+        }
+
+        public boolean isCorrect(String submitted) {
+            if (submitted == null) {
+                return false;
+            }
+            if (subjectiveMatcher != null) {
+                return subjectiveMatcher.matches(submitted);
+            }
+            return objectiveAnswers.contains(submitted.trim());
+        }
+    }
+}
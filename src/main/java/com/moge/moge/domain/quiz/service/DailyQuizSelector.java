@@ -0,0 +1,137 @@
+package com.moge.moge.domain.quiz.service;
+
+import com.moge.moge.domain.quiz.dao.QuizDao;
+import com.moge.moge.domain.quiz.dto.res.GetDailyQuizRes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.moge.moge.global.util.Constants.QUIZ_LOAD_CHUNK;
+
+/**
+ * 오늘의 퀴즈 선택
+ * 하루에 한 번 ACTIVE 퀴즈 식별자 배열에서 날짜를 seed 로 하나를 골라 메모리에 두고, 조회는 이 값을 그대로 반환한다.
+ * 같은 날에는 어느 서버에서 조회해도 같은 퀴즈가 나오며, 자정이 지나거나 선택된 퀴즈가 삭제되면 다시 고른다.
+ */
+@Component
+public class DailyQuizSelector {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final QuizDao quizDao;
+    private final ZoneId zoneId;
+
+    private volatile Selection selection;
+
+    @Autowired
+    public DailyQuizSelector(QuizDao quizDao, @Value("${moge.quiz.daily.zone:Asia/Seoul}") String zone) {
+        this.quizDao = quizDao;
+        this.zoneId = ZoneId.of(zone);
+    }
+
+    /* 오늘의 퀴즈가 없으면(ACTIVE 퀴즈가 하나도 없음) null */
+    public GetDailyQuizRes get() {
+        Selection current = selection;
+        LocalDate today = LocalDate.now(zoneId);
+        if (current == null || !current.date.equals(today)) {
+            current = select(today, false);
+        }
+        return current.quiz;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            select(LocalDate.now(zoneId), false);
+        } catch (Exception exception) {
+            logger.error("Daily quiz selection failed, retrying on first request", exception);
+        }
+    }
+
+    @Scheduled(cron = "0 0 0 * * *", zone = "${moge.quiz.daily.zone:Asia/Seoul}")
+    public void refreshAtMidnight() {
+        try {
+            select(LocalDate.now(zoneId), false);
+        } catch (Exception exception) {
+            logger.error("Daily quiz refresh failed", exception);
+        }
+    }
+
+    /* 선택된 퀴즈가 삭제되었는지 확인 (기본키 조회 한 번), 고를 퀴즈가 없었으면 다시 시도 */
+    @Scheduled(fixedDelayString = "${moge.quiz.daily.check-ms:300000}")
+    public void checkSelectedQuiz() {
+        Selection current = selection;
+        if (current == null) {
+            return;
+        }
+        try {
+            if (current.quiz == null) {
+                select(current.date, true);
+            } else if (quizDao.getDailyQuiz(current.quiz.getQuizIdx()) == null) {
+                logger.info("Daily quiz {} is no longer active, selecting again", current.quiz.getQuizIdx());
+                select(current.date, true);
+            }
+        } catch (Exception exception) {
+            logger.error("Daily quiz check failed", exception);
+        }
+    }
+
+    private synchronized Selection select(LocalDate date, boolean force) {
+        Selection current = selection;
+        if (!force && current != null && current.date.equals(date)) {
+            return current;
+        }
+
+        int[] quizIdxList = loadActiveQuizIdx();
+        GetDailyQuizRes quiz = null;
+        if (quizIdxList.length > 0) {
+            // 날짜로 시작 위치를 정하고, 그 사이 삭제된 퀴즈면 다음 퀴즈로 넘어감
+            int start = new Random(date.toEpochDay()).nextInt(quizIdxList.length);
+            for (int i = 0; i < quizIdxList.length && quiz == null; i++) {
+                quiz = quizDao.getDailyQuiz(quizIdxList[(start + i) % quizIdxList.length]);
+            }
+        }
+        selection = new Selection(date, quiz);
+        return selection;
+    }
+
+    private int[] loadActiveQuizIdx() {
+        int[] quizIdxList = new int[0];
+        int size = 0;
+        int lastQuizIdx = 0;
+        while (true) {
+            List<Integer> chunk = quizDao.getActiveQuizIdx(lastQuizIdx, QUIZ_LOAD_CHUNK);
+            if (size + chunk.size() > quizIdxList.length) {
+                quizIdxList = Arrays.copyOf(quizIdxList, size + chunk.size());
+            }
+            for (int quizIdx : chunk) {
+                quizIdxList[size++] = quizIdx;
+                lastQuizIdx = quizIdx;
+            }
+            if (chunk.size() < QUIZ_LOAD_CHUNK) {
+                return quizIdxList;
+            }
+        }
+    }
+
+    private static class Selection {
+        private final LocalDate date;
+        private final GetDailyQuizRes quiz;
+
+        Selection(LocalDate date, GetDailyQuizRes quiz) {
+            this.date = date;
+            this.quiz = quiz;
+        }
+    }
+}
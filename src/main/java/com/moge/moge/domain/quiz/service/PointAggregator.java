@@ -0,0 +1,37 @@
+package com.moge.moge.domain.quiz.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.moge.moge.global.util.Constants.POINT_AGGREGATE_CHUNK;
+
+/**
+ * 포인트 이력을 주기적으로 User.userPoint 에 반영
+ * chunk 단위 트랜잭션으로 처리하고, 여러 서버가 동시에 돌아도 skip locked 로 서로 다른 이력을 가져간다.
+ */
+@Component
+public class PointAggregator {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final PointLedger pointLedger;
+
+    @Autowired
+    public PointAggregator(PointLedger pointLedger) {
+        this.pointLedger = pointLedger;
+    }
+
+    @Scheduled(fixedDelayString = "${moge.point.aggregate-ms:1000}")
+    public void aggregate() {
+        try {
+            while (pointLedger.aggregate(POINT_AGGREGATE_CHUNK) == POINT_AGGREGATE_CHUNK) {
+                // 밀린 이력이 chunk 보다 많으면 이어서 처리
+            }
+        } catch (Exception exception) {
+            logger.error("Point aggregation failed", exception);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.moge.moge.domain.quiz.service;
+
+import com.moge.moge.domain.quiz.dao.PointDao;
+import com.moge.moge.domain.quiz.dto.res.GetRankingRes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.moge.moge.global.util.Constants.POINT_LEADERBOARD_LOAD_CHUNK;
+
+/**
+ * 포인트 랭킹 (전체 / 카테고리별)
+ * 포인트가 있는 유저만 메모리에 두고, 점수별 유저 수를 Fenwick tree 로 관리해 순위를 O(log n) 으로 계산한다.
+ * 포인트 지급 경로에서 바로 갱신하고, 다른 서버에서 지급된 포인트는 주기적인 rebuild 로 반영된다.
+ * rebuild 중에 지급된 포인트는 교체 직전에 해당 유저만 다시 읽어 새 랭킹에 반영한다.
+ * 카테고리 랭킹은 포인트 이력(PointEvent)이 쌓이기 시작한 이후의 포인트만 집계한다.
+ */
+@Component
+public class PointLeaderboard {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final PointDao pointDao;
+
+    private volatile Leaderboard global = new Leaderboard();
+    private volatile Map<Integer, Leaderboard> categories = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+    // 지급 경로(onAward)는 read lock, 재적재의 시작 / 교체는 write lock
+    private final ReadWriteLock awardLock = new ReentrantReadWriteLock();
+    // 재적재 중에 포인트를 받은 유저 (재적재 중이 아니면 null)
+    private Set<Integer> awardedDuringRebuild;
+
+    @Autowired
+    public PointLeaderboard(PointDao pointDao) {
+        this.pointDao = pointDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+        } catch (Exception exception) {
+            logger.error("Point leaderboard build failed, retrying on first request", exception);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${moge.point.leaderboard.rebuild-ms:600000}")
+    public void scheduledRebuild() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception exception) {
+            logger.error("Point leaderboard rebuild failed", exception);
+        }
+    }
+
+    private synchronized void rebuild() {
+        setAwardRecording(ConcurrentHashMap.newKeySet());
+        try {
+            build();
+        } finally {
+            setAwardRecording(null);
+        }
+    }
+
+    private void build() {
+        Leaderboard newGlobal = new Leaderboard();
+        int lastUserIdx = 0;
+        while (true) {
+            Map<Integer, Integer> points = pointDao.getUserPoints(lastUserIdx, POINT_LEADERBOARD_LOAD_CHUNK);
+            for (Map.Entry<Integer, Integer> point : points.entrySet()) {
+                newGlobal.set(point.getKey(), point.getValue());
+                lastUserIdx = point.getKey();
+            }
+            if (points.size() < POINT_LEADERBOARD_LOAD_CHUNK) {
+                break;
+            }
+        }
+
+        Map<Integer, Leaderboard> newCategories = new ConcurrentHashMap<>();
+        for (Map.Entry<Integer, Map<Integer, Integer>> category : pointDao.getCategoryPoints().entrySet()) {
+            Leaderboard leaderboard = new Leaderboard();
+            category.getValue().forEach(leaderboard::set);
+            newCategories.put(category.getKey(), leaderboard);
+        }
+
+        awardLock.writeLock().lock();
+        try {
+            refreshAwardedUsers(newGlobal, newCategories);
+            global = newGlobal;
+            categories = newCategories;
+            loaded = true;
+        } finally {
+            awardLock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * 적재하는 동안 포인트를 받은 유저는 DB 에서 다시 읽어 덮어씀
+     * 증가분을 더하면 이미 스냅샷에 들어간 지급이 두 번 반영될 수 있으므로 현재 값을 다시 읽는다.
+     * write lock 을 잡은 상태라 이 사이의 지급은 교체가 끝난 뒤 새 랭킹에 반영된다.
+     */
+    private void refreshAwardedUsers(Leaderboard newGlobal, Map<Integer, Leaderboard> newCategories) {
+        if (awardedDuringRebuild.isEmpty()) {
+            return;
+        }
+        List<Integer> userIdxList = new ArrayList<>(awardedDuringRebuild);
+        pointDao.getUserPointsByUsers(userIdxList).forEach(newGlobal::set);
+        for (Map.Entry<Integer, Map<Integer, Integer>> category : pointDao.getCategoryPointsByUsers(userIdxList).entrySet()) {
+            Leaderboard leaderboard = newCategories.computeIfAbsent(category.getKey(), key -> new Leaderboard());
+            category.getValue().forEach(leaderboard::set);
+        }
+    }
+
+    private void setAwardRecording(Set<Integer> awarded) {
+        awardLock.writeLock().lock();
+        try {
+            awardedDuringRebuild = awarded;
+        } finally {
+            awardLock.writeLock().unlock();
+        }
+    }
+
+    private void loadIfNeeded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    /* 포인트가 지급된 직후 호출 */
+    public void onAward(int userIdx, int categoryIdx, int delta) {
+        awardLock.readLock().lock();
+        try {
+            if (awardedDuringRebuild != null) {
+                awardedDuringRebuild.add(userIdx);
+            }
+            if (!loaded) {
+                return;
+            }
+            global.add(userIdx, delta);
+            categories.computeIfAbsent(categoryIdx, key -> new Leaderboard()).add(userIdx, delta);
+        } finally {
+            awardLock.readLock().unlock();
+        }
+    }
+
+    /* categoryIdx 가 null 이면 전체 랭킹 */
+    public List<GetRankingRes> getTop(Integer categoryIdx, int size) {
+        loadIfNeeded();
+        return leaderboard(categoryIdx).top(size);
+    }
+
+    public GetRankingRes getRank(Integer categoryIdx, int userIdx) {
+        loadIfNeeded();
+        return leaderboard(categoryIdx).rankOf(userIdx);
+    }
+
+    public List<GetRankingRes> getAround(Integer categoryIdx, int userIdx, int range) {
+        loadIfNeeded();
+        return leaderboard(categoryIdx).around(userIdx, range);
+    }
+
+    private Leaderboard leaderboard(Integer categoryIdx) {
+        if (categoryIdx == null) {
+            return global;
+        }
+        return categories.getOrDefault(categoryIdx, new Leaderboard());
+    }
+
+    /**
+     * 점수 내림차순(동점이면 userIdx 오름차순) 순서의 랭킹
+     * 점수별 유저 집합(TreeMap)으로 순서대로 꺼내고, 점수별 유저 수 Fenwick tree 로 "나보다 점수가 높은 유저 수"를 구한다.
+     */
+    private static class Leaderboard {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Integer, Integer> scores = new HashMap<>();
+        private final TreeMap<Integer, TreeSet<Integer>> buckets = new TreeMap<>();
+        // counts[i] : 점수가 i - 1 인 유저 수에 대한 Fenwick tree (1-based)
+        private long[] counts = new long[1024];
+
+        void add(int userIdx, int delta) {
+            lock.writeLock().lock();
+            try {
+                setScore(userIdx, scores.getOrDefault(userIdx, 0) + delta);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void set(int userIdx, int score) {
+            lock.writeLock().lock();
+            try {
+                setScore(userIdx, score);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void setScore(int userIdx, int score) {
+            Integer old = scores.remove(userIdx);
+            if (old != null) {
+                TreeSet<Integer> bucket = buckets.get(old);
+                bucket.remove(userIdx);
+                if (bucket.isEmpty()) {
+                    buckets.remove(old);
+                }
+                update(old, -1);
+            }
+            // 포인트가 없는 유저는 두지 않음 (순위는 포인트가 있는 유저 수 + 1)
+            if (score <= 0) {
+                return;
+            }
+            // 배열이 늘어나면 buckets 로 다시 채우므로, buckets 에 넣기 전에 반영
+            update(score, 1);
+            scores.put(userIdx, score);
+            buckets.computeIfAbsent(score, key -> new TreeSet<>()).add(userIdx);
+        }
+
+        GetRankingRes rankOf(int userIdx) {
+            lock.readLock().lock();
+            try {
+                int score = scores.getOrDefault(userIdx, 0);
+                return entry(rank(score), userIdx, score);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<GetRankingRes> top(int size) {
+            lock.readLock().lock();
+            try {
+                List<GetRankingRes> result = new ArrayList<>(size);
+                int higher = 0;
+                for (Map.Entry<Integer, TreeSet<Integer>> bucket : buckets.descendingMap().entrySet()) {
+                    for (int userIdx : bucket.getValue()) {
+                        if (result.size() == size) {
+                            return result;
+                        }
+                        result.add(entry(higher + 1, userIdx, bucket.getKey()));
+                    }
+                    higher += bucket.getValue().size();
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /* 나보다 앞선 range 명, 나, 뒤따르는 range 명 (포인트가 없는 유저는 뒤따르는 유저 없이 최하위 range 명) */
+        List<GetRankingRes> around(int userIdx, int range) {
+            lock.readLock().lock();
+            try {
+                int score = scores.getOrDefault(userIdx, 0);
+                List<GetRankingRes> ahead = new ArrayList<>();
+                walk(score, userIdx, true, range, ahead);
+                Collections.reverse(ahead);
+
+                List<GetRankingRes> result = new ArrayList<>(ahead);
+                if (score > 0) {
+                    result.add(entry(rank(score), userIdx, score));
+                    walk(score, userIdx, false, range, result);
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /* (score, userIdx) 위치에서 앞(점수 높은 쪽) 또는 뒤로 limit 명 */
+        private void walk(int score, int userIdx, boolean forward, int limit, List<GetRankingRes> result) {
+            int added = 0;
+            // 같은 점수 안에서 먼저 이동
+            TreeSet<Integer> sameScore = buckets.get(score);
+            if (sameScore != null) {
+                NavigableSet<Integer> rest = forward ? sameScore.headSet(userIdx, false).descendingSet() : sameScore.tailSet(userIdx, false);
+                for (Iterator<Integer> iterator = rest.iterator(); iterator.hasNext() && added < limit; added++) {
+                    result.add(entry(rank(score), iterator.next(), score));
+                }
+            }
+            Map<Integer, TreeSet<Integer>> next = forward ? buckets.tailMap(score, false) : buckets.headMap(score, false).descendingMap();
+            for (Map.Entry<Integer, TreeSet<Integer>> bucket : next.entrySet()) {
+                if (added >= limit) {
+                    return;
+                }
+                int bucketRank = rank(bucket.getKey());
+                NavigableSet<Integer> users = forward ? bucket.getValue().descendingSet() : bucket.getValue();
+                for (Iterator<Integer> iterator = users.iterator(); iterator.hasNext() && added < limit; added++) {
+                    result.add(entry(bucketRank, iterator.next(), bucket.getKey()));
+                }
+            }
+        }
+
+        /* 점수가 score 보다 높은 유저 수 + 1 */
+        private int rank(int score) {
+            return (int) (prefix(counts.length - 1) - prefix(Math.min(score + 1, counts.length - 1))) + 1;
+        }
+
+        private void update(int score, int delta) {
+            if (score + 1 >= counts.length) {
+                grow(score + 2);
+            }
+            for (int i = score + 1; i < counts.length; i += i & -i) {
+                counts[i] += delta;
+            }
+        }
+
+        private long prefix(int index) {
+            long sum = 0;
+            for (int i = index; i > 0; i -= i & -i) {
+                sum += counts[i];
+            }
+            return sum;
+        }
+
+        /* 최고 점수가 배열 크기를 넘으면 두 배씩 늘리고 다시 채움 */
+        private void grow(int minLength) {
+            int length = counts.length;
+            while (length < minLength) {
+                length *= 2;
+            }
+            counts = new long[length];
+            for (Map.Entry<Integer, TreeSet<Integer>> bucket : buckets.entrySet()) {
+                int size = bucket.getValue().size();
+                for (int i = bucket.getKey() + 1; i < length; i += i & -i) {
+                    counts[i] += size;
+                }
+            }
+        }
+
+        private static GetRankingRes entry(int rank, int userIdx, int score) {
+            return new GetRankingRes(rank, userIdx, null, null, score);
+        }
+    }
+}
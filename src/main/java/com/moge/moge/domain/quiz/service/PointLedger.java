@@ -0,0 +1,52 @@
+package com.moge.moge.domain.quiz.service;
+
+import com.moge.moge.domain.quiz.dao.PointDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 지급 이력(PointEvent)
+ * 지급은 이력 insert 한 번이고 User 행을 잠그지 않는다. (userIdx, quizIdx) unique key 로 같은 퀴즈는 한 번만 지급된다.
+ * 이미 푼 퀴즈는 SolvedQuizCache 에서 먼저 걸러 DB 왕복 없이 거절한다.
+ * 잔액(User.userPoint) 반영은 PointAggregator 가 모아서 처리하고, 조회는 잔액 + 미반영 합계로 계산한다.
+ */
+@Service
+public class PointLedger {
+
+    private final PointDao pointDao;
+    private final SolvedQuizCache solvedQuizCache;
+
+    @Autowired
+    public PointLedger(PointDao pointDao, SolvedQuizCache solvedQuizCache) {
+        this.pointDao = pointDao;
+        this.solvedQuizCache = solvedQuizCache;
+    }
+
+    /* 지급되었으면 true, 이미 이 퀴즈로 지급받았으면 false */
+    public boolean award(int userIdx, int quizIdx, int delta) {
+        if (solvedQuizCache.isSolved(userIdx, quizIdx)) {
+            return false;
+        }
+        boolean awarded = pointDao.createPointEvent(userIdx, quizIdx, delta) == 1;
+        // 이번에 지급했든 다른 서버에서 먼저 지급했든 이제 푼 퀴즈
+        solvedQuizCache.markSolved(userIdx, quizIdx);
+        return awarded;
+    }
+
+    /* 미반영 이력을 최대 limit 건 잔액에 반영하고, 반영한 건수를 반환 */
+    @Transactional(rollbackFor = Exception.class)
+    public int aggregate(int limit) {
+        List<Long> pointEventIdxList = pointDao.lockPendingPointEvents(limit);
+        if (pointEventIdxList.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, Integer> deltaByUser = pointDao.sumPointEventsByUser(pointEventIdxList);
+        pointDao.addUserPoints(deltaByUser);
+        pointDao.markAggregated(pointEventIdxList);
+        return pointEventIdxList.size();
+    }
+}
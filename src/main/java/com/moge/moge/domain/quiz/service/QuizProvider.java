@@ -1,4 +1,113 @@
 package com.moge.moge.domain.quiz.service;
 
+import com.moge.moge.domain.quiz.dao.PointDao;
+import com.moge.moge.domain.quiz.dto.res.GetQuizStatsRes;
+import com.moge.moge.domain.quiz.dto.res.GetRankingRes;
+import com.moge.moge.domain.quiz.dto.res.GetUserRankingRes;
+import com.moge.moge.global.exception.BaseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.moge.moge.global.exception.BaseResponseStatus.*;
+import static com.moge.moge.global.util.Constants.MAX_RANKING_RANGE;
+import static com.moge.moge.global.util.ValidationUtils.checkCategoryIdxRange;
+import static com.moge.moge.global.util.ValidationUtils.checkPageSize;
+
+@Service
 public class QuizProvider {
+
+    private final PointDao pointDao;
+    private final PointLeaderboard pointLeaderboard;
+    private final AnswerKeyCache answerKeyCache;
+    private final QuizStatsBuffer quizStatsBuffer;
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    public QuizProvider(PointDao pointDao, PointLeaderboard pointLeaderboard, AnswerKeyCache answerKeyCache, QuizStatsBuffer quizStatsBuffer) {
+        this.pointDao = pointDao;
+        this.pointLeaderboard = pointLeaderboard;
+        this.answerKeyCache = answerKeyCache;
+        this.quizStatsBuffer = quizStatsBuffer;
+    }
+
+    /* 퀴즈 정답률 : 시도 수, 정답 수 */
+    public GetQuizStatsRes getQuizStats(int quizIdx) throws BaseException {
+        AnswerKeyCache.AnswerKey answerKey;
+        try {
+            answerKey = answerKeyCache.get(quizIdx);
+        } catch (Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+        if (answerKey == null) {
+            throw new BaseException(QUIZ_NOT_EXISTS);
+        }
+
+        try {
+            return quizStatsBuffer.getStats(Collections.singletonList(quizIdx)).get(quizIdx);
+        } catch (Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+    }
+
+    /* 포인트 랭킹 상위 size 명 (categoryIdx 가 없으면 전체) */
+    public List<GetRankingRes> getRanking(Integer categoryIdx, int size) throws BaseException {
+        if (categoryIdx != null) {
+            checkCategoryIdxRange(categoryIdx);
+        }
+        checkPageSize(size);
+
+        try {
+            List<GetRankingRes> ranking = pointLeaderboard.getTop(categoryIdx, size);
+            setRankingUsers(ranking);
+            return ranking;
+        } catch (Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+    }
+
+    /* 유저의 순위와 앞뒤 range 명 */
+    public GetUserRankingRes getUserRanking(Integer categoryIdx, int userIdx, int range) throws BaseException {
+        if (categoryIdx != null) {
+            checkCategoryIdxRange(categoryIdx);
+        }
+        if (range < 1 || range > MAX_RANKING_RANGE) {
+            throw new BaseException(INVALID_RANKING_RANGE);
+        }
+
+        try {
+            GetRankingRes rank = pointLeaderboard.getRank(categoryIdx, userIdx);
+            List<GetRankingRes> around = pointLeaderboard.getAround(categoryIdx, userIdx, range);
+            setRankingUsers(around);
+            return new GetUserRankingRes(rank.getRank(), rank.getPoint(), around);
+        } catch (Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+    }
+
+    /* 랭킹에 들어간 유저들의 닉네임, 프로필 이미지를 한 번에 조회 */
+    private void setRankingUsers(List<GetRankingRes> ranking) {
+        if (ranking.isEmpty()) {
+            return;
+        }
+        List<Integer> userIdxList = new ArrayList<>(ranking.size());
+        for (GetRankingRes entry : ranking) {
+            userIdxList.add(entry.getUserIdx());
+        }
+        Map<Integer, GetRankingRes> users = pointDao.getRankingUsers(userIdxList);
+        for (GetRankingRes entry : ranking) {
+            GetRankingRes user = users.get(entry.getUserIdx());
+            if (user != null) {
+                entry.setNickname(user.getNickname());
+                entry.setProfileImage(user.getProfileImage());
+            }
+        }
+    }
 }
@@ -1,49 +1,158 @@
 package com.moge.moge.domain.quiz.service;
 
+import com.moge.moge.domain.board.dao.BoardStatsDao;
+import com.moge.moge.domain.board.service.BoardFeedCache;
+import com.moge.moge.domain.board.service.BoardSearchIndex;
+import com.moge.moge.domain.board.service.BoardStatusCache;
+import com.moge.moge.domain.board.service.QuizSessionCache;
 import com.moge.moge.domain.quiz.dao.QuizDao;
 import com.moge.moge.domain.quiz.dto.req.PostBoardReq;
 import com.moge.moge.domain.quiz.dto.req.PostQuizAnswerReq;
+import com.moge.moge.domain.quiz.dto.req.PostQuizBoardReq;
+import com.moge.moge.domain.quiz.dto.req.PostQuizGradeReq;
 import com.moge.moge.domain.quiz.dto.req.PostQuizPointReq;
 import com.moge.moge.domain.quiz.dto.req.PostQuizReq;
 import com.moge.moge.domain.quiz.dto.res.GetDailyQuizRes;
 import com.moge.moge.domain.quiz.dto.res.PostBoardRes;
 import com.moge.moge.domain.quiz.dto.res.PostQuizAnswerRes;
+import com.moge.moge.domain.quiz.dto.res.PostQuizBoardRes;
+import com.moge.moge.domain.quiz.dto.res.PostQuizGradeRes;
 import com.moge.moge.domain.quiz.dto.res.PostQuizRes;
 import com.moge.moge.global.exception.BaseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.moge.moge.global.exception.BaseResponseStatus.*;
+import static com.moge.moge.global.util.Constants.MAX_QUIZ_PER_BOARD;
 import static com.moge.moge.global.util.Constants.OBJECTIVE;
+import static com.moge.moge.global.util.Constants.QUIZ_CORRECT_POINT;
 import static com.moge.moge.global.util.Constants.SUBJECTIVE;
+import static com.moge.moge.global.util.ValidationUtils.checkCategoryIdxRange;
 
 @Service
 public class QuizService {
 
     private final QuizDao quizDao;
+    private final BoardStatsDao boardStatsDao;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardStatusCache boardStatusCache;
+    private final BoardFeedCache boardFeedCache;
+    private final DailyQuizSelector dailyQuizSelector;
+    private final AnswerKeyCache answerKeyCache;
+    private final PointLedger pointLedger;
+    private final PointLeaderboard pointLeaderboard;
+    private final QuizSessionCache quizSessionCache;
+    private final QuizStatsBuffer quizStatsBuffer;
 
     final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public QuizService(QuizDao quizDao) {
+    public QuizService(QuizDao quizDao, BoardStatsDao boardStatsDao, BoardSearchIndex boardSearchIndex, BoardStatusCache boardStatusCache, BoardFeedCache boardFeedCache, DailyQuizSelector dailyQuizSelector, AnswerKeyCache answerKeyCache, PointLedger pointLedger, PointLeaderboard pointLeaderboard, QuizSessionCache quizSessionCache, QuizStatsBuffer quizStatsBuffer) {
         this.quizDao = quizDao;
+        this.boardStatsDao = boardStatsDao;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardStatusCache = boardStatusCache;
+        this.boardFeedCache = boardFeedCache;
+        this.dailyQuizSelector = dailyQuizSelector;
+        this.answerKeyCache = answerKeyCache;
+        this.pointLedger = pointLedger;
+        this.pointLeaderboard = pointLeaderboard;
+        this.quizSessionCache = quizSessionCache;
+        this.quizStatsBuffer = quizStatsBuffer;
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public PostBoardRes createBoards(int userIdx, PostBoardReq postBoardReq) throws BaseException {
         try {
             // title , categoryIdx null 체크
 
-            return quizDao.createBoard(userIdx, postBoardReq);
+            PostBoardRes postBoardRes = quizDao.createBoard(userIdx, postBoardReq);
+            boardStatsDao.createBoardStats(postBoardRes.getBoardIdx(), postBoardRes.getCategoryIdx());
+            boardSearchIndex.add(postBoardRes.getBoardIdx(), postBoardReq.getTitle());
+            boardStatusCache.markActive(postBoardRes.getBoardIdx());
+            boardFeedCache.evictCategory(postBoardRes.getCategoryIdx());
+            return postBoardRes;
         } catch(Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
+    /* 퀴즈 게시물 + 퀴즈 + 정답을 한 트랜잭션에서 한 번에 등록 */
+    @Transactional(rollbackFor = Exception.class)
+    public PostQuizBoardRes createQuizBoard(int userIdx, PostQuizBoardReq postQuizBoardReq) throws BaseException {
+        checkQuizBoard(postQuizBoardReq);
+        try {
+            int boardIdx = quizDao.createBoard(userIdx, postQuizBoardReq.getCategoryIdx(), postQuizBoardReq.getTitle());
+            boardStatsDao.createBoardStats(boardIdx, postQuizBoardReq.getCategoryIdx());
+
+            List<PostQuizBoardReq.Quiz> quizzes = postQuizBoardReq.getQuizzes();
+            List<Integer> quizIdxList = quizDao.createQuizzes(boardIdx, quizzes);
+
+            // 퀴즈 타입별로 정답을 모아 테이블당 batch insert 한 번
+            List<Object[]> objectiveAnswers = new ArrayList<>();
+            List<Object[]> subjectiveAnswers = new ArrayList<>();
+            for (int i = 0; i < quizzes.size(); i++) {
+                for (PostQuizBoardReq.Answer answer : quizzes.get(i).getAnswers()) {
+                    if (quizzes.get(i).getQuizType() == OBJECTIVE) {
+                        objectiveAnswers.add(new Object[]{answer.getContent(), answer.getIsAnswer(), quizIdxList.get(i)});
+                    } else {
+                        subjectiveAnswers.add(new Object[]{answer.getHint(), answer.getContent(), answer.getIsAnswer(), quizIdxList.get(i)});
+                    }
+                }
+            }
+            if (!objectiveAnswers.isEmpty()) {
+                quizDao.createObjectiveAnswers(objectiveAnswers);
+            }
+            if (!subjectiveAnswers.isEmpty()) {
+                quizDao.createSubjectiveAnswers(subjectiveAnswers);
+            }
+            boardStatsDao.updateQuizCount(boardIdx, quizIdxList.size());
+
+            boardSearchIndex.add(boardIdx, postQuizBoardReq.getTitle());
+            boardStatusCache.markActive(boardIdx);
+            boardFeedCache.evictCategory(postQuizBoardReq.getCategoryIdx());
+            return new PostQuizBoardRes(boardIdx, quizIdxList);
+        } catch(Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+    }
+
+    private void checkQuizBoard(PostQuizBoardReq postQuizBoardReq) throws BaseException {
+        checkCategoryIdxRange(postQuizBoardReq.getCategoryIdx());
+        if (postQuizBoardReq.getTitle() == null) {
+            throw new BaseException(POST_QUIZ_EMPTY_TITLE);
+        }
+        List<PostQuizBoardReq.Quiz> quizzes = postQuizBoardReq.getQuizzes();
+        if (quizzes == null || quizzes.isEmpty() || quizzes.size() > MAX_QUIZ_PER_BOARD) {
+            throw new BaseException(POST_QUIZ_INVALID_SIZE);
+        }
+        for (PostQuizBoardReq.Quiz quiz : quizzes) {
+            if (quiz.getQuestion() == null) {
+                throw new BaseException(POST_QUIZ_EMPTY_QUESTION);
+            }
+            if (quiz.getQuizType() != OBJECTIVE && quiz.getQuizType() != SUBJECTIVE) {
+                throw new BaseException(POST_QUIZ_INVALID_TYPE);
+            }
+            if (quiz.getAnswers() == null || quiz.getAnswers().stream().noneMatch(answer -> answer.getIsAnswer() == 1)) {
+                throw new BaseException(POST_QUIZ_EMPTY_ANSWER);
+            }
+        }
+    }
+
+    @Transactional(rollbackFor = Exception.class)
     public PostQuizRes createQuiz(PostQuizReq postQuizReq) throws BaseException {
         try {
             // null 체크
 
-            return quizDao.createQuiz(postQuizReq);
+            PostQuizRes postQuizRes = quizDao.createQuiz(postQuizReq);
+            boardStatsDao.updateQuizCount(postQuizReq.getBoardIdx(), 1);
+            boardFeedCache.evictBoard(postQuizReq.getBoardIdx());
+            quizSessionCache.evictBoard(postQuizReq.getBoardIdx());
+            return postQuizRes;
         } catch(Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
@@ -56,41 +165,67 @@ public class QuizService {
             if (postQuizAnswerReq.getHint() != null && !postQuizAnswerReq.getHint().equals("OBJECTIVE") && !postQuizAnswerReq.getHint().equals("SUBJECTIVE")) {
                 throw new BaseException(POST_INVALID_QUIZ_ANSWER_HINT);
             }
+            PostQuizAnswerRes postQuizAnswerRes;
             if (postQuizAnswerReq.getHint() == "OBJECTIVE") {
-                return quizDao.createObjectiveAnswer(postQuizAnswerReq);
+                postQuizAnswerRes = quizDao.createObjectiveAnswer(postQuizAnswerReq);
+            } else {
+                postQuizAnswerRes = quizDao.createSubjectiveAnswer(postQuizAnswerReq);
             }
-            return quizDao.createSubjectiveAnswer(postQuizAnswerReq);
+            // 정답이 바뀌었으므로 채점용 캐시에서 제거
+            answerKeyCache.invalidate(postQuizAnswerReq.getQuizIdx());
+            quizSessionCache.evictQuiz(postQuizAnswerReq.getQuizIdx());
+            return postQuizAnswerRes;
         } catch(Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
-    public void updatePoints(int userIdx, PostQuizPointReq postQuizPointReq) throws BaseException {
+    /* 예전 포인트 획득 요청 : 제출한 답을 채점해서 맞았을 때만 지급 */
+    public PostQuizGradeRes updatePoints(int userIdx, PostQuizPointReq postQuizPointReq) throws BaseException {
+        return gradeQuiz(userIdx, postQuizPointReq.getQuizIdx(), new PostQuizGradeReq(postQuizPointReq.getAnswer()));
+    }
+
+    /* 서버에서 채점하고, 맞았을 때만 포인트 지급 (퀴즈당 한 번) */
+    public PostQuizGradeRes gradeQuiz(int userIdx, int quizIdx, PostQuizGradeReq postQuizGradeReq) throws BaseException {
+        if (postQuizGradeReq.getAnswer() == null) {
+            throw new BaseException(POST_QUIZ_EMPTY_SUBMITTED_ANSWER);
+        }
+        AnswerKeyCache.AnswerKey answerKey;
         try {
-            // 퀴즈 상태값 확인
-            String status = quizDao.getQuizStatus(postQuizPointReq.getQuizIdx());
-            if (status.equals("DELETE")) {
-                throw new BaseException(QUIZ_STATUS_DELETE);
-            }
+            answerKey = answerKeyCache.get(quizIdx);
+        } catch (Exception exception) {
+            throw new BaseException(DATABASE_ERROR);
+        }
+        if (answerKey == null) {
+            throw new BaseException(QUIZ_NOT_EXISTS);
+        }
 
-            // 퀴즈 타입에 따른 포인트 증가
-            int quizType = quizDao.getQuizType(postQuizPointReq.getQuizIdx());
-            if (quizType == OBJECTIVE) {
-                quizDao.updatePointsByObjective(userIdx, postQuizPointReq.getQuizIdx());
-            }
-            if (quizType == SUBJECTIVE) {
-                quizDao.updatePointsBySubjective(userIdx, postQuizPointReq.getQuizIdx());
+        boolean correct = answerKey.isCorrect(postQuizGradeReq.getAnswer());
+        quizStatsBuffer.record(quizIdx, correct);
+        if (!correct) {
+            return new PostQuizGradeRes(quizIdx, false, 0);
+        }
+        try {
+            boolean awarded = pointLedger.award(userIdx, quizIdx, QUIZ_CORRECT_POINT);
+            if (awarded) {
+                pointLeaderboard.onAward(userIdx, answerKey.getCategoryIdx(), QUIZ_CORRECT_POINT);
             }
-        } catch(Exception exception) {
+            return new PostQuizGradeRes(quizIdx, true, awarded ? QUIZ_CORRECT_POINT : 0);
+        } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
     }
 
     public GetDailyQuizRes getDailyQuiz() throws BaseException {
+        GetDailyQuizRes getDailyQuizRes;
         try {
-            return quizDao.getDailyQUiz();
+            getDailyQuizRes = dailyQuizSelector.get();
         }  catch(Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
+        if (getDailyQuizRes == null) {
+            throw new BaseException(DAILY_QUIZ_NOT_EXISTS);
+        }
+        return getDailyQuizRes;
     }
 }
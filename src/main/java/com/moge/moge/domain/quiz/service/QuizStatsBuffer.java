@@ -0,0 +1,104 @@
+package com.moge.moge.domain.quiz.service;
+
+import com.moge.moge.domain.quiz.dao.QuizStatsDao;
+import com.moge.moge.domain.quiz.dto.res.GetQuizStatsRes;
+import com.moge.moge.global.util.CounterBuffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈별 채점 시도 수 / 정답 수를 메모리에 모아두었다가 주기적으로 QuizStats 에 한 번의 batch 로 더함
+ * 조회는 DB 값 + 아직 반영되지 않은 증가분이라 flush 주기와 관계없이 바로 반영된다. (다른 서버의 증가분은 flush 이후)
+ */
+@Component
+public class QuizStatsBuffer {
+
+    final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final QuizStatsDao quizStatsDao;
+    // 퀴즈별 [시도 수, 정답 수]
+    private final CounterBuffer<Integer> pending = new CounterBuffer<>(2);
+    private volatile long lastFlushedAt = System.currentTimeMillis();
+
+    @Autowired
+    public QuizStatsBuffer(QuizStatsDao quizStatsDao, MeterRegistry meterRegistry) {
+        this.quizStatsDao = quizStatsDao;
+
+        Gauge.builder("moge.quiz.stats.pending", this, QuizStatsBuffer::getPendingCount)
+                .description("아직 DB에 반영되지 않은 채점 시도 수")
+                .register(meterRegistry);
+        Gauge.builder("moge.quiz.stats.flush-lag", this, QuizStatsBuffer::getFlushLagSeconds)
+                .description("마지막으로 flush 에 성공한 뒤 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void record(int quizIdx, boolean correct) {
+        pending.add(quizIdx, 1, correct ? 1 : 0);
+    }
+
+    /* quizIdx -> 통계 (기록이 없는 퀴즈도 0 으로 포함) */
+    public Map<Integer, GetQuizStatsRes> getStats(List<Integer> quizIdxList) {
+        Map<Integer, GetQuizStatsRes> stats = new HashMap<>();
+        if (quizIdxList.isEmpty()) {
+            return stats;
+        }
+        Map<Integer, long[]> saved = quizStatsDao.getQuizStats(quizIdxList);
+        for (int quizIdx : quizIdxList) {
+            long[] counts = saved.getOrDefault(quizIdx, new long[2]);
+            long[] unflushed = pending.get(quizIdx);
+            long attempts = counts[0] + unflushed[0];
+            long correct = counts[1] + unflushed[1];
+            // flush 와 겹치면 잠깐 어긋날 수 있으므로 100 을 넘지 않게
+            int correctRate = attempts == 0 ? 0 : (int) Math.min(100, correct * 100 / attempts);
+            stats.put(quizIdx, new GetQuizStatsRes(quizIdx, attempts, correct, correctRate));
+        }
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${moge.quiz.stats.flush-ms:1000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception exception) {
+            logger.error("Quiz stats flush failed", exception);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception exception) {
+            logger.error("Quiz stats flush on shutdown failed, {} attempts lost", getPendingCount(), exception);
+        }
+    }
+
+    /* 반영한 퀴즈는 버퍼에서 빠지고, batch 가 실패하면 다음 flush 로 넘어감 */
+    public void flush() {
+        pending.flush(deltas -> {
+            // deltas 값은 [시도 수, 정답 수] 로 updateQuizStats 가 받는 순서와 같음
+            quizStatsDao.updateQuizStats(new ArrayList<>(deltas.keySet()), new ArrayList<>(deltas.values()));
+        });
+        lastFlushedAt = System.currentTimeMillis();
+    }
+
+    private double getPendingCount() {
+        return pending.total(0);
+    }
+
+    private double getFlushLagSeconds() {
+        return (System.currentTimeMillis() - lastFlushedAt) / 1000.0;
+    }
+}
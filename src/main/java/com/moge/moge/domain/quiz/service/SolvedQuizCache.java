@@ -0,0 +1,99 @@
+package com.moge.moge.domain.quiz.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moge.moge.domain.quiz.dao.PointDao;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 유저별 푼 퀴즈 비트맵 캐시 (userIdx -> quizIdx 비트맵)
+ * 처음 조회할 때 PointEvent 에서 읽어 오고, 이미 푼 퀴즈에 대한 포인트 요청은 DB 까지 가지 않고 거절한다.
+ * 캐시에는 "푼 퀴즈"만 기록하므로, 빠진 값이 있어도 PointEvent unique key 가 중복 지급을 막는다.
+ * 메모리는 비트맵 블록 수 기준으로 제한한다.
+ */
+@Component
+public class SolvedQuizCache {
+
+    private final PointDao pointDao;
+    private final Cache<Integer, SolvedQuizzes> cache;
+
+    @Autowired
+    public SolvedQuizCache(PointDao pointDao, MeterRegistry meterRegistry,
+                           @Value("${moge.quiz.solved.max-blocks:200000}") long maxBlocks,
+                           @Value("${moge.quiz.solved.ttl-minutes:30}") long ttlMinutes) {
+        this.pointDao = pointDao;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBlocks)
+                .weigher((Integer userIdx, SolvedQuizzes solved) -> Math.max(1, solved.blockCount()))
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "solvedQuiz");
+    }
+
+    public boolean isSolved(int userIdx, int quizIdx) {
+        return cache.get(userIdx, this::load).contains(quizIdx);
+    }
+
+    /* 캐시에 없는 유저는 다음 조회 때 DB 에서 읽으므로 기록하지 않음 */
+    public void markSolved(int userIdx, int quizIdx) {
+        SolvedQuizzes solved = cache.getIfPresent(userIdx);
+        if (solved != null && solved.add(quizIdx)) {
+            // 블록이 늘었으면 다시 넣어 weight 를 갱신
+            cache.put(userIdx, solved);
+        }
+    }
+
+    private SolvedQuizzes load(int userIdx) {
+        SolvedQuizzes solved = new SolvedQuizzes();
+        for (int quizIdx : pointDao.getSolvedQuizIdx(userIdx)) {
+            solved.add(quizIdx);
+        }
+        return solved;
+    }
+
+    /* quizIdx 1024 개 단위 블록(long 16 개)만 만드는 희소 비트맵 : 한 게시글의 퀴즈는 보통 같은 블록에 모임 */
+    private static class SolvedQuizzes {
+        private static final int BLOCK_SHIFT = 10;
+        private static final int BLOCK_WORDS = (1 << BLOCK_SHIFT) / Long.SIZE;
+
+        private final Map<Integer, long[]> blocks = new HashMap<>();
+
+        synchronized boolean contains(int quizIdx) {
+            long[] block = blocks.get(quizIdx >>> BLOCK_SHIFT);
+            return block != null && (block[word(quizIdx)] & bit(quizIdx)) != 0;
+        }
+
+        /* 새 블록을 만들었으면 true */
+        synchronized boolean add(int quizIdx) {
+            long[] block = blocks.get(quizIdx >>> BLOCK_SHIFT);
+            boolean created = block == null;
+            if (created) {
+                block = new long[BLOCK_WORDS];
+                blocks.put(quizIdx >>> BLOCK_SHIFT, block);
+            }
+            block[word(quizIdx)] |= bit(quizIdx);
+            return created;
+        }
+
+        synchronized int blockCount() {
+            return blocks.size();
+        }
+
+        private static int word(int quizIdx) {
+            return (quizIdx & ((1 << BLOCK_SHIFT) - 1)) >>> 6;
+        }
+
+        private static long bit(int quizIdx) {
+            return 1L << (quizIdx & 63);
+        }
+    }
+}
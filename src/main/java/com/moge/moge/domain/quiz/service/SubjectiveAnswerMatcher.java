@@ -0,0 +1,155 @@
+package com.moge.moge.domain.quiz.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.moge.moge.global.util.Constants.SUBJECTIVE_CHARS_PER_TYPO;
+
+/**
+ * 주관식 정답 비교
+ * 정답마다 정규화한 키(NFC, 소문자, 공백 / 문장부호 제거, 선택적으로 한글 자모 분해)를 미리 만들어 두고,
+ * 제출한 답은 같은 방식으로 정규화해 먼저 정확히 일치하는지, 아니면 허용 오타 수 이내인지 확인한다.
+ * 허용 오타 수는 자모 분해 전 정답 글자 수 SUBJECTIVE_CHARS_PER_TYPO 글자마다 1개(최대 maxDistance)이고, 숫자가 들어간 정답은 오타를 허용하지 않는다.
+ */
+public final class SubjectiveAnswerMatcher {
+
+    private static final int HANGUL_BEGIN = 0xAC00;
+    private static final int HANGUL_END = 0xD7A3;
+    private static final int CHOSEONG_BASE = 0x1100;
+    private static final int JUNGSEONG_BASE = 0x1161;
+    private static final int JONGSEONG_BASE = 0x11A7;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private final boolean decomposeJamo;
+    private final Set<String> exact = new HashSet<>();
+    // 오타를 허용하는 정답 키와 키별 허용 오타 수
+    private final char[][] fuzzyKeys;
+    private final int[] allowed;
+
+    public SubjectiveAnswerMatcher(List<String> answers, boolean decomposeJamo, int maxDistance) {
+        this.decomposeJamo = decomposeJamo;
+        List<String> fuzzy = new ArrayList<>();
+        List<Integer> fuzzyAllowed = new ArrayList<>();
+        for (String answer : answers) {
+            if (answer == null) {
+                continue;
+            }
+            String letters = letters(answer);
+            String key = key(letters);
+            if (key.isEmpty() || !exact.add(key)) {
+                continue;
+            }
+            // 허용 오타 수는 자모로 나누기 전의 글자 수 기준
+            int distance = allowedDistance(letters, maxDistance);
+            if (distance > 0) {
+                fuzzy.add(key);
+                fuzzyAllowed.add(distance);
+            }
+        }
+        this.fuzzyKeys = new char[fuzzy.size()][];
+        this.allowed = new int[fuzzy.size()];
+        for (int i = 0; i < fuzzy.size(); i++) {
+            fuzzyKeys[i] = fuzzy.get(i).toCharArray();
+            allowed[i] = fuzzyAllowed.get(i);
+        }
+    }
+
+    public boolean matches(String submitted) {
+        if (submitted == null) {
+            return false;
+        }
+        String key = key(letters(submitted));
+        if (key.isEmpty()) {
+            return false;
+        }
+        if (exact.contains(key)) {
+            return true;
+        }
+        char[] chars = key.toCharArray();
+        for (int i = 0; i < fuzzyKeys.length; i++) {
+            if (withinDistance(chars, fuzzyKeys[i], allowed[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* NFC, 소문자로 바꾸고 공백, 문장부호, 기호 제거 */
+    private static String letters(String answer) {
+        String normalized = Normalizer.normalize(answer, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder letters = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(letters::appendCodePoint);
+        return letters.toString();
+    }
+
+    private String key(String letters) {
+        if (!decomposeJamo) {
+            return letters;
+        }
+        StringBuilder key = new StringBuilder(letters.length() * 3);
+        letters.codePoints().forEach(codePoint -> {
+            if (codePoint >= HANGUL_BEGIN && codePoint <= HANGUL_END) {
+                // 음절 -> 초성 + 중성 (+ 종성) : 한 글자 안의 오타가 자모 하나 차이가 되도록
+                int offset = codePoint - HANGUL_BEGIN;
+                key.append((char) (CHOSEONG_BASE + offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+                key.append((char) (JUNGSEONG_BASE + offset / JONGSEONG_COUNT % JUNGSEONG_COUNT));
+                if (offset % JONGSEONG_COUNT != 0) {
+                    key.append((char) (JONGSEONG_BASE + offset % JONGSEONG_COUNT));
+                }
+            } else {
+                key.appendCodePoint(codePoint);
+            }
+        });
+        return key.toString();
+    }
+
+    private static int allowedDistance(String letters, int maxDistance) {
+        if (letters.codePoints().anyMatch(Character::isDigit)) {
+            return 0;
+        }
+        return Math.min(maxDistance, letters.codePointCount(0, letters.length()) / SUBJECTIVE_CHARS_PER_TYPO);
+    }
+
+    /* 편집 거리가 limit 이하인지 : 대각선 기준 폭 limit 의 띠만 계산하고, 한 행의 최솟값이 limit 을 넘으면 중단 */
+    static boolean withinDistance(char[] a, char[] b, int limit) {
+        if (Math.abs(a.length - b.length) > limit) {
+            return false;
+        }
+        int over = limit + 1;
+        int[] previous = new int[b.length + 1];
+        int[] current = new int[b.length + 1];
+        for (int j = 0; j <= b.length; j++) {
+            previous[j] = Math.min(j, over);
+        }
+        for (int i = 1; i <= a.length; i++) {
+            int from = Math.max(1, i - limit);
+            int to = Math.min(b.length, i + limit);
+            current[0] = Math.min(i, over);
+            current[from - 1] = from == 1 ? current[0] : over;
+            int rowMin = current[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitute = previous[j - 1] + (a[i - 1] == b[j - 1] ? 0 : 1);
+                int distance = Math.min(substitute, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(distance, over);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < b.length) {
+                current[to + 1] = over;
+            }
+            if (rowMin > limit) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length] <= limit;
+    }
+}
@@ -160,10 +160,10 @@ public class UserController {
     /* 팔로우 등록, 취소 */
     @ResponseBody
     @PostMapping("/follow")
-    public BaseResponse<String> createUserFollow(@RequestBody PostUserFollowReq postUserFollowReq) {
+    public BaseResponse<PostUserFollowRes> createUserFollow(@RequestBody PostUserFollowReq postUserFollowReq) {
         try {
-            userService.createUserFollow(postUserFollowReq.getUserIdx(), postUserFollowReq.getFollowingIdx());
-            return new BaseResponse<>(SUCCESS_CREATE_FOLLOW);
+            boolean following = userService.createUserFollow(postUserFollowReq.getUserIdx(), postUserFollowReq.getFollowingIdx());
+            return new BaseResponse<>(new PostUserFollowRes(following));
         } catch (BaseException exception) {
             return new BaseResponse<>((exception.getStatus()));
         }
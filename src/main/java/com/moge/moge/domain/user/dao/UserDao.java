@@ -3,6 +3,7 @@ package com.moge.moge.domain.user.dao;
 import com.moge.moge.domain.user.dto.User;
 import com.moge.moge.domain.user.dto.req.*;
 import com.moge.moge.domain.user.dto.res.*;
+import com.moge.moge.global.util.StatusToggle;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -10,6 +11,8 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.util.List;
 
+import static com.moge.moge.global.util.StatusToggle.TOGGLE_STATUS;
+
 @Repository
 public class UserDao {
 
@@ -153,16 +156,12 @@ public class UserDao {
         this.jdbcTemplate.update(deleteUserProfileImageQuery, userIdx);
     }
 
-    public int createUserFollow(int userIdx, int followingIdx) {
-        String createUserFollowQuery = "insert into Follow(followerIdx, followingIdx) values(?,?)";
-        Object[] params = new Object[]{userIdx, followingIdx };
-        return this.jdbcTemplate.update(createUserFollowQuery, params);
-    }
-
-    public int checkUserFollowExists(int userIdx, int followingIdx) {
-        String checkUserFollowExistsQuery = "select exists(select * from Follow where followerIdx =? and followingIdx =? and status ='ACTIVE')";
-        Object[] params = new Object[] {userIdx, followingIdx};
-        return this.jdbcTemplate.queryForObject(checkUserFollowExistsQuery, int.class, params);
+    /* 팔로우 토글 : 토글 후 ACTIVE 이면 true */
+    public boolean toggleUserFollow(int userIdx, int followingIdx) {
+        String toggleUserFollowQuery =
+                "insert into Follow(followerIdx, followingIdx) values(?, ?)\n" +
+                "on duplicate key update " + TOGGLE_STATUS;
+        return StatusToggle.toggle(this.jdbcTemplate, toggleUserFollowQuery, userIdx, followingIdx);
     }
 
     public int checkUserExists(int followingIdx) {
@@ -171,24 +170,6 @@ public class UserDao {
         return this.jdbcTemplate.queryForObject(checkUserExistsQuery, int.class, param);
     }
 
-    public int checkUserFollowStatus(int userIdx, int followingIdx) {
-        String checkUserFollowStatusQuery = "select exists(select * from Follow where followerIdx =? and followingIdx =? and status = 'DELETE')";
-        Object[] params = new Object[] {userIdx, followingIdx};
-        return this.jdbcTemplate.queryForObject(checkUserFollowStatusQuery, int.class, params);
-    }
-
-    public int updateUserFollowStatus(int userIdx, int followingIdx) {
-        String deleteUserFollowQuery = "update Follow set status = 'ACTIVE' where followerIdx =? and followingIdx =?";
-        Object[] params = new Object[]{userIdx, followingIdx};
-        return this.jdbcTemplate.update(deleteUserFollowQuery, params);
-    }
-
-    public int deleteUserFollow(int userIdx, int followingIdx) {
-        String deleteUserFollowQuery = "update Follow set status = 'DELETE' where followerIdx =? and followingIdx =?";
-        Object[] params = new Object[]{userIdx, followingIdx};
-        return this.jdbcTemplate.update(deleteUserFollowQuery, params);
-    }
-
     public List<GetUserFollowRes> getUserFollowings(int userIdx, int page) {
         String getUserFollowingsQuery =
                 "select U.userIdx, U.nickname, U.profileImage\n" +
@@ -234,7 +215,8 @@ public class UserDao {
 
     public GetUserProfileRes getUserProfile(int userIdx) {
         String getUserProfileQuery =
-                "select userIdx, nickname, profileImage, userPoint,\n" +
+                "select userIdx, nickname, profileImage,\n" +
+                "    userPoint + (select ifnull(sum(P.delta), 0) from PointEvent P where P.userIdx = U.userIdx and P.aggregated = 0) as userPoint,\n" +
                 "    (select count(*) from Follow F where F.followingIdx = U.userIdx) as followerCount,\n" +
                 "    (select count(*) from Follow F where F.followerIdx = U.userIdx) as followingCount\n" +
                 "from User U\n" +
@@ -252,10 +234,11 @@ public class UserDao {
 
     public List<GetUserBoardRes> getUserBoards(int userIdx) {
         String getUserBoardQuery =
-                "select boardIdx, categoryName, title, viewCount,\n" +
-                "    (select count(*) from BoardLike BL where BL.boardIdx = B.boardIdx) as likeCount,\n" +
-                "    (select count(*) from Quiz Q where Q.boardIdx = B.boardIdx) as quizCount\n" +
+                "select B.boardIdx, categoryName, title, viewCount,\n" +
+                "    ifnull(BS.likeCount, 0) as likeCount,\n" +
+                "    ifnull(BS.quizCount, 0) as quizCount\n" +
                 "from Board B\n" +
+                "    left join BoardStats BS on BS.boardIdx = B.boardIdx\n" +
                 "    left join Category C   on C.categoryIdx = B.categoryIdx\n" +
                 "where B.userIdx = ? and B.status != 'DELETE'";
 
@@ -272,10 +255,11 @@ public class UserDao {
 
     public List<GetUserBoardRes> getUserBoardsByCategory(int userIdx, Integer categoryIdx) {
         String getUserBoardQuery =
-                "select boardIdx, categoryName, title, viewCount,\n" +
-                "    (select count(*) from BoardLike BL where BL.boardIdx = B.boardIdx) as likeCount,\n" +
-                "    (select count(*) from Quiz Q where Q.boardIdx = B.boardIdx) as quizCount\n" +
+                "select B.boardIdx, categoryName, title, viewCount,\n" +
+                "    ifnull(BS.likeCount, 0) as likeCount,\n" +
+                "    ifnull(BS.quizCount, 0) as quizCount\n" +
                 "from Board B\n" +
+                "    left join BoardStats BS on BS.boardIdx = B.boardIdx\n" +
                 "    left join Category C   on C.categoryIdx = B.categoryIdx\n" +
                 "where B.userIdx = ? and C.categoryIdx = ? and B.status != 'DELETE'";
         Object[] params = new Object[]{userIdx, categoryIdx};
@@ -294,13 +278,13 @@ public class UserDao {
     public List<GetUserBoardLikeRes> getUserBoardLike(int userIdx) {
         String getUserBoardLikeQuery =
                 "select B.boardIdx, categoryName, title, \n" +
-                "    (select count(*) from Quiz Q where Q.boardIdx = B.boardIdx) as quizCount,\n" +
+                "    ifnull(BS.quizCount, 0) as quizCount,\n" +
                 "    B.viewCount as viewCount,\n" +
-                "    (select count(*) from BoardLike BL where BL.boardIdx = B.boardIdx) as likeCount\n" +
-                "from Board B\n" +
+                "    ifnull(BS.likeCount, 0) as likeCount\n" +
+                "from BoardLike BL\n" +
+                "    join Board B on B.boardIdx = BL.boardIdx\n" +
+                "    left join BoardStats BS on BS.boardIdx = B.boardIdx\n" +
                 "    left join Category C   on C.categoryIdx = B.categoryIdx\n" +
-                "    left join BoardLike BL on BL.boardIdx = B.boardIdx\n" +
-                "    left join User U on U.userIdx = BL.userIdx\n" +
                 "where BL.userIdx = ? and BL.status = 'ACTIVE' order by BL.createdAt desc";
 
         return this.jdbcTemplate.query(getUserBoardLikeQuery,
@@ -338,8 +322,9 @@ public class UserDao {
 
     public GetUserPointRes getUserPoints(int userIdx) {
         String getUserPointsQuery =
-                " select userIdx, nickname, userPoint\n" +
-                " from User\n" +
+                " select userIdx, nickname,\n" +
+                "     userPoint + (select ifnull(sum(P.delta), 0) from PointEvent P where P.userIdx = U.userIdx and P.aggregated = 0) as userPoint\n" +
+                " from User U\n" +
                 " where userIdx = ? and status = 'ACTIVE'";
         return this.jdbcTemplate.queryForObject(getUserPointsQuery,
                 (rs, rowNum) -> new GetUserPointRes(
@@ -0,0 +1,12 @@
+package com.moge.moge.domain.user.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostUserFollowRes {
+    private boolean following; // 요청 이후 팔로우 상태 (true : 팔로우, false : 언팔로우)
+}
@@ -12,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -189,29 +190,15 @@ public class UserService {
         }
     }
 
-    public void createUserFollow(int userIdx, int followingIdx) throws BaseException {
+    @Transactional(rollbackFor = Exception.class)
+    public boolean createUserFollow(int userIdx, int followingIdx) throws BaseException {
         try {
             // 팔로우하려는 유저가 있는지 확인
             if (userDao.checkUserExists(followingIdx) == 0) {
                 throw new BaseException(USER_NOT_EXISTS);
             }
-            // 이미 팔로우가 등록되어있는지 확인
-            if (userDao.checkUserFollowExists(userIdx, followingIdx) == 1) {
-                // 등록되어있으면 팔로우 해제 -> status = DELETE
-                userDao.deleteUserFollow(userIdx, followingIdx);
-            }
-            else { // 등록 안되어있고
-                // status 가 Delete라면
-                if (userDao.checkUserFollowStatus(userIdx, followingIdx) == 1) {
-                    userDao.updateUserFollowStatus(userIdx, followingIdx);
-                } else {
-                    int result = userDao.createUserFollow(userIdx, followingIdx);
-                    if (result == 0) {
-                        throw new BaseException(FAILED_TO_CREATE_FOLLOW);
-                    }
-                }
-            }
-
+            // 팔로우 등록/해제를 한 문장으로 처리
+            return userDao.toggleUserFollow(userIdx, followingIdx);
         } catch (Exception exception) {
             throw new BaseException(DATABASE_ERROR);
         }
@@ -0,0 +1,47 @@
+package com.moge.moge.global.common;
+
+import com.moge.moge.global.exception.BaseException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.moge.moge.global.exception.BaseResponseStatus.INVALID_CURSOR;
+
+/**
+ * 키셋 페이지네이션용 커서
+ * 정렬 기준 값(key)과 동률을 끊어주는 식별자(idx)를 클라이언트에 불투명한 문자열로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    private static final String DELIMITER = ":";
+
+    private final long key;
+    private final int idx;
+
+    // 첫 페이지 : 모든 행이 커서보다 앞에 있도록 최대값 사용
+    public static Cursor first() {
+        return new Cursor(Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    public static Cursor decode(String cursor) throws BaseException {
+        if (cursor == null || cursor.isEmpty()) {
+            return first();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            return new Cursor(Long.parseLong(decoded.substring(0, delimiter)), Integer.parseInt(decoded.substring(delimiter + 1)));
+        } catch (Exception exception) {
+            throw new BaseException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = key + DELIMITER + idx;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -39,8 +39,6 @@ public enum BaseResponseStatus {
 
     SUCCESS_PUSH_ALARM(true, 1030, "FCM 알람 발송에 성공하였습니다."),
 
-    SUCCESS_UPDATE_POINT(true, 1040, "포인트 증가에 성공하였습니다."),
-
     /**
      * 2000 : Request 오류
      */
@@ -69,10 +67,19 @@ public enum BaseResponseStatus {
     POST_BOARDS_EMPTY_COMMENT(false, 2030, "댓글 내용을 입력해주세요."),
     POST_BOARDS_COMMENT_INVALID_JWT(false, 2031, "해당 댓글에 대한 권한이 없습니다."),
     EMPTY_SEARTCH_KEYWORD(false, 2032, "검색어를 입력해주세요."),
+    INVALID_CURSOR(false, 2033, "커서 값이 올바르지 않습니다."),
+    INVALID_PAGE_SIZE(false, 2034, "페이지 크기는 1 이상 50 이하여야 합니다."),
     EMPTY_BOARDS_REPORT_CONTENT(false, 3033, "게시글 신고 사유를 입력해주세요."),
     EMPTY_COMMENTS_REPORT_CONTENT(false, 3034, "댓글 신고 사유를 입력해주세요."),
 
     POST_INVALID_QUIZ_ANSWER_HINT(false, 2040, "힌트 값이 잘못되었습니다."),
+    POST_QUIZ_EMPTY_TITLE(false, 2041, "퀴즈 게시물 제목을 입력해주세요."),
+    POST_QUIZ_INVALID_SIZE(false, 2042, "퀴즈는 1개 이상 50개 이하로 등록해주세요."),
+    POST_QUIZ_EMPTY_QUESTION(false, 2043, "퀴즈 질문을 입력해주세요."),
+    POST_QUIZ_INVALID_TYPE(false, 2044, "퀴즈 타입이 잘못되었습니다."),
+    POST_QUIZ_EMPTY_ANSWER(false, 2045, "퀴즈마다 정답을 하나 이상 입력해주세요."),
+    POST_QUIZ_EMPTY_SUBMITTED_ANSWER(false, 2046, "답을 입력해주세요."),
+    INVALID_RANKING_RANGE(false, 2047, "랭킹 범위는 1 이상 20 이하여야 합니다."),
 
 
     /**
@@ -119,6 +126,8 @@ public enum BaseResponseStatus {
 
     //quiz
     QUIZ_STATUS_DELETE(false, 3050, "퀴즈가 삭제된 상태입니다."),
+    DAILY_QUIZ_NOT_EXISTS(false, 3051, "오늘의 퀴즈가 없습니다."),
+    QUIZ_NOT_EXISTS(false, 3052, "해당 퀴즈가 삭제되었거나, 존재하지 않습니다."),
 
     /**
      * 4000 : Database, Server 오류
@@ -11,5 +11,24 @@ public class Constants {
     public static final Integer MAX_CATEGORY_IDX = 5;
     public static final Integer OBJECTIVE = 1;
     public static final Integer SUBJECTIVE = 2;
+    public static final Integer BOARD_STATS_RECONCILE_CHUNK = 1000;
+    public static final Integer DEFAULT_PAGE_SIZE = 20;
+    public static final Integer MAX_PAGE_SIZE = 50;
+    public static final Integer BOARD_TOP_SIZE = 10;
+    public static final Integer BOARD_TOP_CANDIDATE_SIZE = 30;
+    public static final Integer BOARD_SEARCH_LIMIT = 100;
+    public static final Integer BOARD_SEARCH_INDEX_CHUNK = 10000;
+    public static final Integer BOARD_STATUS_LOAD_CHUNK = 50000;
+    public static final Integer COMMENT_REPLY_PREVIEW_SIZE = 3;
+    public static final Integer REPORT_DEACTIVATE_THRESHOLD = 3;
+    public static final Integer COMMENT_STREAM_BUFFER_SIZE = 100;
+    public static final Integer QUIZ_LOAD_CHUNK = 50000;
+    public static final Integer MAX_QUIZ_PER_BOARD = 50;
+    public static final Integer QUIZ_CORRECT_POINT = 10;
+    public static final Integer POINT_AGGREGATE_CHUNK = 1000;
+    public static final Integer POINT_LEADERBOARD_LOAD_CHUNK = 50000;
+    public static final Integer DEFAULT_RANKING_RANGE = 5;
+    public static final Integer MAX_RANKING_RANGE = 20;
+    public static final Integer SUBJECTIVE_CHARS_PER_TYPO = 5;
 
 }
@@ -0,0 +1,152 @@
+package com.moge.moge.global.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 키별 카운터(키마다 width 개)를 메모리에 모아두었다가 한 번에 반영하기 위한 버퍼
+ * flush 할 때 모아둔 맵을 새 맵으로 바꿔 꺼내므로, 반영이 끝난 키는 메모리에 남지 않는다.
+ * 반영에 실패하면 꺼낸 값을 다시 더해 다음 flush 로 넘긴다.
+ */
+public final class CounterBuffer<K> {
+
+    private final int width;
+    // 쓰기(add)는 read lock, 맵 교체는 write lock -> 교체 이후에 옛 맵에 더해지는 값이 없음
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<K, LongAdder[]> pending = new ConcurrentHashMap<>();
+    // DB 에 쓰는 중인 값 : 조회 시 pending 과 함께 더함
+    private Map<K, LongAdder[]> flushing = Collections.emptyMap();
+
+    public CounterBuffer(int width) {
+        this.width = width;
+    }
+
+    /* deltas 는 width 개, 한 키의 여러 카운터는 항상 같은 flush 에 함께 들어감 */
+    public void add(K key, long... deltas) {
+        lock.readLock().lock();
+        try {
+            LongAdder[] counters = pending.computeIfAbsent(key, k -> newCounters());
+            for (int i = 0; i < width; i++) {
+                if (deltas[i] != 0) {
+                    counters[i].add(deltas[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* 아직 반영되지 않은 값 (없으면 0) */
+    public long[] get(K key) {
+        long[] sums = new long[width];
+        lock.readLock().lock();
+        try {
+            addTo(sums, flushing.get(key));
+            addTo(sums, pending.get(key));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sums;
+    }
+
+    /* index 번째 카운터의 미반영 합계 */
+    public long total(int index) {
+        long sum = 0;
+        lock.readLock().lock();
+        try {
+            for (LongAdder[] counters : flushing.values()) {
+                sum += counters[index].sum();
+            }
+            for (LongAdder[] counters : pending.values()) {
+                sum += counters[index].sum();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sum;
+    }
+
+    /* 모아둔 값을 꺼내 writer 에 넘김, writer 가 예외를 던지면 꺼낸 값은 다시 쌓임 */
+    public synchronized void flush(Consumer<Map<K, long[]>> writer) {
+        Map<K, LongAdder[]> drained;
+        lock.writeLock().lock();
+        try {
+            drained = pending;
+            flushing = drained;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<K, long[]> deltas = new LinkedHashMap<>();
+        for (Map.Entry<K, LongAdder[]> entry : drained.entrySet()) {
+            long[] sums = new long[width];
+            addTo(sums, entry.getValue());
+            if (!isZero(sums)) {
+                deltas.put(entry.getKey(), sums);
+            }
+        }
+
+        try {
+            if (!deltas.isEmpty()) {
+                writer.accept(deltas);
+            }
+        } catch (RuntimeException exception) {
+            lock.writeLock().lock();
+            try {
+                flushing = Collections.emptyMap();
+                deltas.forEach(this::addBack);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw exception;
+        }
+
+        lock.writeLock().lock();
+        try {
+            flushing = Collections.emptyMap();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* write lock 을 잡은 상태에서 호출 */
+    private void addBack(K key, long[] sums) {
+        LongAdder[] counters = pending.computeIfAbsent(key, k -> newCounters());
+        for (int i = 0; i < width; i++) {
+            counters[i].add(sums[i]);
+        }
+    }
+
+    private LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[width];
+        for (int i = 0; i < width; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private void addTo(long[] sums, LongAdder[] counters) {
+        if (counters == null) {
+            return;
+        }
+        for (int i = 0; i < width; i++) {
+            sums[i] += counters[i].sum();
+        }
+    }
+
+    private static boolean isZero(long[] sums) {
+        for (long sum : sums) {
+            if (sum != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package com.moge.moge.global.util;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 작성 시각을 "n분 전", "n시간 전" 과 같은 상대 시간 문자열로 변환
+ * 기존 SQL CASE TIMESTAMPDIFF 식과 같은 구간을 사용하고, 자주 쓰는 문자열은 미리 만들어 둔다.
+ */
+public final class ElapsedTimeFormatter {
+
+    private static final String JUST_NOW = "방금 전";
+    private static final String[] MINUTES = labels(60, "분 전");
+    private static final String[] HOURS = labels(24, "시간 전");
+    private static final String[] DAYS = labels(7, "일 전");
+    private static final String[] WEEKS = labels(5, "주 전");
+    private static final String[] MONTHS = labels(120, "달 전");
+
+    private ElapsedTimeFormatter() {
+    }
+
+    public static String format(LocalDateTime time) {
+        return format(time, LocalDateTime.now());
+    }
+
+    public static String format(LocalDateTime time, LocalDateTime now) {
+        if (time == null) {
+            return null;
+        }
+        long minutes = ChronoUnit.MINUTES.between(time, now);
+        if (minutes <= 0) {
+            return JUST_NOW;
+        }
+        if (minutes < 60) {
+            return MINUTES[(int) minutes];
+        }
+        long hours = minutes / 60;
+        if (hours < 24) {
+            return HOURS[(int) hours];
+        }
+        long days = hours / 24;
+        if (days < 7) {
+            return DAYS[(int) days];
+        }
+        long weeks = days / 7;
+        if (weeks < 5) {
+            return WEEKS[(int) weeks];
+        }
+        long months = ChronoUnit.MONTHS.between(time, now);
+        return months < MONTHS.length ? MONTHS[(int) months] : months + "달 전";
+    }
+
+    private static String[] labels(int size, String suffix) {
+        String[] labels = new String[size];
+        for (int i = 0; i < size; i++) {
+            labels[i] = i + suffix;
+        }
+        return labels;
+    }
+}
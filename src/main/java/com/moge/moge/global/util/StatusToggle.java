@@ -0,0 +1,42 @@
+package com.moge.moge.global.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * 좋아요 / 팔로우처럼 (대상, 유저) 행의 status 를 ACTIVE <-> DELETE 로 뒤집는 토글
+ * insert ... on duplicate key update 한 문장으로 뒤집고, 바뀐 상태도 같은 문장의 응답에서 읽는다.
+ * 행이 이미 있으면 last_insert_id(1 또는 2) 로 이전 상태를 남기고, 드라이버가 이 값을 생성 키로 돌려준다.
+ * 다시 select 하지 않으므로 트랜잭션 없이 호출해도 다른 토글과 섞이지 않는다.
+ */
+public final class StatusToggle {
+
+    // 이전 상태가 ACTIVE 면 1, 아니면 2 를 남기고 status 를 뒤집음
+    public static final String TOGGLE_STATUS =
+            "status = if(last_insert_id(if(status = 'ACTIVE', 1, 2)) = 1, 'DELETE', 'ACTIVE')";
+
+    private StatusToggle() {
+    }
+
+    /* query 는 "insert into ...(a, b) values(?, ?) on duplicate key update " + TOGGLE_STATUS, 토글 후 ACTIVE 면 true */
+    public static boolean toggle(JdbcTemplate jdbcTemplate, String query, int first, int second) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int affected = jdbcTemplate.update(connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
+            preparedStatement.setInt(1, first);
+            preparedStatement.setInt(2, second);
+            return preparedStatement;
+        }, keyHolder);
+        // affected rows 1 : 새로 insert 됨(ACTIVE), 2 : 기존 행의 status 가 바뀜
+        if (affected == 1) {
+            return true;
+        }
+        // 드라이버는 affected rows 만큼 키를 만들어 주므로 첫 번째 키만 사용
+        Number previous = (Number) keyHolder.getKeyList().get(0).values().iterator().next();
+        return previous.intValue() == 2;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import static com.moge.moge.global.exception.BaseResponseStatus.*;
 import static com.moge.moge.global.util.Constants.MAX_CATEGORY_IDX;
+import static com.moge.moge.global.util.Constants.MAX_PAGE_SIZE;
 import static com.moge.moge.global.util.Constants.MIN_CATEGORY_IDX;
 
 @Component
@@ -37,6 +38,15 @@ public class ValidationUtils {
         return userIdxByJwt;
     }
 
+    /* 로그인하지 않은 요청이면 null, 토큰이 있으면 검증 후 userIdx 반환 */
+    public Integer getViewerIdx() throws BaseException {
+        String accessToken = jwtService.getJwt();
+        if (accessToken == null || accessToken.isEmpty()) {
+            return null;
+        }
+        return jwtService.getUserIdx();
+    }
+
     public void validateSize(int target, int size) throws BaseException {
         if (target != size) {
             throw new BaseException(POST_USERS_CATEGORY_NUM);
@@ -103,4 +113,10 @@ public class ValidationUtils {
         }
     }
 
+    public static void checkPageSize(int size) throws BaseException {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BaseException(INVALID_PAGE_SIZE);
+        }
+    }
+
 }
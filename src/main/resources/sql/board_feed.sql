@@ -0,0 +1,14 @@
+-- 카테고리 피드 키셋 페이지네이션용 인덱스
+alter table BoardStats add column categoryIdx int not null default 0 after boardIdx;
+update BoardStats BS join Board B on B.boardIdx = BS.boardIdx set BS.categoryIdx = B.categoryIdx;
+
+-- 최신순 : (categoryIdx, status) 다음 boardIdx 역순
+drop index idx_board_category_created on Board;
+create index idx_board_category_recent on Board (categoryIdx, status, boardIdx);
+-- 조회수순 : (viewCount, boardIdx) 키셋
+create index idx_board_category_view on Board (categoryIdx, status, viewCount, boardIdx);
+-- 좋아요순 : (likeCount, boardIdx) 키셋
+create index idx_board_stats_category_like on BoardStats (categoryIdx, likeCount, boardIdx);
+
+-- 카운터 upsert 가 categoryIdx 없이 만든 행 보정 (이후 upsert 는 Board 의 categoryIdx 를 함께 채움)
+update BoardStats BS join Board B on B.boardIdx = BS.boardIdx set BS.categoryIdx = B.categoryIdx where BS.categoryIdx = 0;
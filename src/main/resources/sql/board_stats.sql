@@ -0,0 +1,24 @@
+-- 게시글별 집계 카운터 (목록 조회의 count 서브쿼리 대체)
+create table if not exists BoardStats (
+    boardIdx     int       not null primary key,
+    likeCount    int       not null default 0,
+    quizCount    int       not null default 0,
+    commentCount int       not null default 0,
+    reportCount  int       not null default 0,
+    updatedAt    timestamp not null default current_timestamp on update current_timestamp,
+    index idx_board_stats_like (likeCount)
+);
+
+create index idx_board_view on Board (viewCount);
+create index idx_board_category_created on Board (categoryIdx, status, createdAt);
+
+-- 최초 적재 (이후에는 BoardStatsScheduler 가 주기적으로 재계산)
+insert into BoardStats(boardIdx, likeCount, quizCount, commentCount, reportCount)
+select B.boardIdx,
+    (select count(*) from BoardLike BL where BL.boardIdx = B.boardIdx and BL.status = 'ACTIVE'),
+    (select count(*) from Quiz Q where Q.boardIdx = B.boardIdx and Q.status = 'ACTIVE'),
+    (select count(*) from Comment CM where CM.boardIdx = B.boardIdx and CM.status = 'ACTIVE'),
+    (select count(*) from Report R where R.boardIdx = B.boardIdx and R.commentIdx is null)
+from Board B
+on duplicate key update likeCount = values(likeCount), quizCount = values(quizCount),
+    commentCount = values(commentCount), reportCount = values(reportCount);
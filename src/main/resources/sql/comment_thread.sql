@@ -0,0 +1,2 @@
+-- 댓글 목록을 filesort 없이 (groupIdx, parentIdx, commentIdx) 순서로 읽기 위한 인덱스
+create index idx_comment_board_thread on Comment (boardIdx, status, groupIdx, parentIdx, commentIdx);
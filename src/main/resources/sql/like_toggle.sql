@@ -0,0 +1,9 @@
+-- 좋아요 / 팔로우 토글을 insert ... on duplicate key update 한 문장으로 처리하기 위한 unique key
+-- 적용 전에 중복 행이 없는지 확인하고, 있으면 한 행만 남기고 정리해야 함
+select boardIdx, userIdx, count(*) from BoardLike group by boardIdx, userIdx having count(*) > 1;
+select commentIdx, userIdx, count(*) from CommentLike group by commentIdx, userIdx having count(*) > 1;
+select followerIdx, followingIdx, count(*) from Follow group by followerIdx, followingIdx having count(*) > 1;
+
+alter table BoardLike add unique key uk_board_like (boardIdx, userIdx);
+alter table CommentLike add unique key uk_comment_like (commentIdx, userIdx);
+alter table Follow add unique key uk_follow (followerIdx, followingIdx);
@@ -0,0 +1,12 @@
+-- 포인트 지급 이력 (퀴즈당 한 번만 지급, 잔액은 PointAggregator 가 User.userPoint 에 모아서 반영)
+create table if not exists PointEvent (
+    pointEventIdx bigint    not null auto_increment primary key,
+    userIdx       int       not null,
+    quizIdx       int       not null,
+    delta         int       not null,
+    aggregated    tinyint   not null default 0,
+    createdAt     timestamp not null default current_timestamp,
+    unique key uk_point_event_user_quiz (userIdx, quizIdx),
+    index idx_point_event_aggregated (aggregated, pointEventIdx)
+);
+-- 기존 User.userPoint 는 그대로 잔액으로 사용하고, 이력은 이 시점부터 쌓임
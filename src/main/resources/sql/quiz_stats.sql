@@ -0,0 +1,7 @@
+-- 퀴즈별 채점 통계 (QuizStatsBuffer 가 메모리에 모은 증가분을 주기적으로 더함)
+create table if not exists QuizStats (
+    quizIdx      int       not null primary key,
+    attemptCount bigint    not null default 0,
+    correctCount bigint    not null default 0,
+    updatedAt    timestamp not null default current_timestamp on update current_timestamp
+);
@@ -0,0 +1,19 @@
+-- 게시글 신고는 commentIdx = 0 으로 기록 (null 이면 unique key 로 중복 신고를 막을 수 없음)
+update Report set commentIdx = 0 where commentIdx is null;
+alter table Report modify commentIdx int not null default 0;
+
+-- 적용 전에 중복 신고가 없는지 확인하고, 있으면 한 행만 남기고 정리해야 함
+select userIdx, boardIdx, commentIdx, count(*) from Report group by userIdx, boardIdx, commentIdx having count(*) > 1;
+
+-- 같은 유저가 같은 대상을 두 번 신고하면 insert ignore 로 무시
+alter table Report add unique key uk_report_user_target (userIdx, boardIdx, commentIdx);
+
+-- 신고 수 집계용
+alter table Report add index idx_report_board_comment (boardIdx, commentIdx);
+alter table Report add index idx_report_comment (commentIdx);
+
+-- 임계치 판단용 신고 수 : 게시글은 BoardStats.reportCount, 댓글은 Comment.reportCount (신고 insert 와 같은 트랜잭션에서 증가)
+alter table Comment add column reportCount int not null default 0;
+update Comment C set reportCount = (select count(*) from Report R where R.commentIdx = C.commentIdx);
+-- board_stats.sql 최초 적재는 commentIdx is null 기준이었으므로 다시 계산
+update BoardStats BS set reportCount = (select count(*) from Report R where R.boardIdx = BS.boardIdx and R.commentIdx = 0);
@@ -0,0 +1,162 @@
+package com.moge.moge.domain;
+
+import com.moge.moge.domain.board.dao.BoardDao;
+import com.moge.moge.domain.user.dao.UserDao;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 좋아요 / 팔로우 토글을 같은 (대상, 유저) 쌍에 여러 스레드에서 트랜잭션 없이 동시에 호출해도
+ * 모든 호출이 반영되고, 최종 상태가 호출 수의 홀짝과 일치하는지 확인 (홀수면 ACTIVE, 짝수면 DELETE)
+ * 각 호출이 돌려준 상태도 순서대로 번갈아 나와야 하므로 ACTIVE 는 (calls + 1) / 2 번, DELETE 는 calls / 2 번이어야 한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ToggleConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static BoardDao boardDao;
+    private static UserDao userDao;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl());
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+        dataSource.setMaximumPoolSize(THREADS);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(
+                "create table BoardLike (\n" +
+                "    boardLikeIdx int not null auto_increment primary key,\n" +
+                "    boardIdx     int not null,\n" +
+                "    userIdx      int not null,\n" +
+                "    status       varchar(10) not null default 'ACTIVE',\n" +
+                "    unique key uk_board_like (boardIdx, userIdx)\n" +
+                ")");
+        jdbcTemplate.execute(
+                "create table CommentLike (\n" +
+                "    commentLikeIdx int not null auto_increment primary key,\n" +
+                "    commentIdx     int not null,\n" +
+                "    userIdx        int not null,\n" +
+                "    status         varchar(10) not null default 'ACTIVE',\n" +
+                "    unique key uk_comment_like (commentIdx, userIdx)\n" +
+                ")");
+        jdbcTemplate.execute(
+                "create table Follow (\n" +
+                "    followIdx    int not null auto_increment primary key,\n" +
+                "    followerIdx  int not null,\n" +
+                "    followingIdx int not null,\n" +
+                "    status       varchar(10) not null default 'ACTIVE',\n" +
+                "    unique key uk_follow (followerIdx, followingIdx)\n" +
+                ")");
+
+        boardDao = new BoardDao();
+        boardDao.setDataSource(dataSource);
+        userDao = new UserDao();
+        userDao.setDataSource(dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {200, 201})
+    void toggleBoardLikeConcurrently(int calls) throws Exception {
+        int boardIdx = calls;
+        int active = runConcurrently(calls, () -> boardDao.toggleBoardLike(boardIdx, 1));
+
+        String status = jdbcTemplate.queryForObject(
+                "select status from BoardLike where boardIdx = ? and userIdx = ?", String.class, boardIdx, 1);
+        assertToggled(calls, active, status);
+        assertEquals(1, countRows("select count(*) from BoardLike where boardIdx = ? and userIdx = ?", boardIdx, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {200, 201})
+    void toggleCommentLikeConcurrently(int calls) throws Exception {
+        int commentIdx = calls;
+        int active = runConcurrently(calls, () -> boardDao.toggleCommentLike(commentIdx, 1));
+
+        String status = jdbcTemplate.queryForObject(
+                "select status from CommentLike where commentIdx = ? and userIdx = ?", String.class, commentIdx, 1);
+        assertToggled(calls, active, status);
+        assertEquals(1, countRows("select count(*) from CommentLike where commentIdx = ? and userIdx = ?", commentIdx, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {200, 201})
+    void toggleUserFollowConcurrently(int calls) throws Exception {
+        int followingIdx = calls;
+        int active = runConcurrently(calls, () -> userDao.toggleUserFollow(1, followingIdx));
+
+        String status = jdbcTemplate.queryForObject(
+                "select status from Follow where followerIdx = ? and followingIdx = ?", String.class, 1, followingIdx);
+        assertToggled(calls, active, status);
+        assertEquals(1, countRows("select count(*) from Follow where followerIdx = ? and followingIdx = ?", 1, followingIdx));
+    }
+
+    /* 모든 스레드가 동시에 시작하도록 맞춘 뒤 calls 번 호출하고, ACTIVE 를 돌려받은 호출 수를 반환 */
+    private static int runConcurrently(int calls, Callable<Boolean> toggle) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < calls; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (toggle.call()) {
+                        active.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            // 실패한 호출이 있으면 future.get 에서 예외가 나므로, 여기까지 오면 모든 호출이 반영된 것
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return active.get();
+    }
+
+    /* 반환값이 번갈아 나왔는지, 최종 상태가 홀짝과 맞는지 */
+    private static void assertToggled(int calls, int active, String status) {
+        assertEquals((calls + 1) / 2, active);
+        assertEquals(calls % 2 == 1 ? "ACTIVE" : "DELETE", status);
+    }
+
+    private static int countRows(String query, Object... params) {
+        return jdbcTemplate.queryForObject(query, Integer.class, params);
+    }
+}
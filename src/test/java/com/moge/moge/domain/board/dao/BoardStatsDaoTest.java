@@ -0,0 +1,138 @@
+package com.moge.moge.domain.board.dao;
+
+import com.moge.moge.domain.board.dto.res.GetBoardRes;
+import com.moge.moge.global.common.Cursor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BoardStats 카운터 upsert 가 행을 새로 만들어도 categoryIdx 가 채워져 카테고리별 좋아요순 목록에 나오는지 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BoardStatsDaoTest {
+
+    private static final int CATEGORY_IDX = 3;
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static BoardDao boardDao;
+    private static BoardStatsDao boardStatsDao;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl());
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(
+                "create table User (\n" +
+                "    userIdx      int not null auto_increment primary key,\n" +
+                "    nickname     varchar(45) not null,\n" +
+                "    profileImage varchar(255)\n" +
+                ")");
+        jdbcTemplate.execute(
+                "create table Board (\n" +
+                "    boardIdx    int not null auto_increment primary key,\n" +
+                "    userIdx     int not null,\n" +
+                "    categoryIdx int not null,\n" +
+                "    title       varchar(100) not null,\n" +
+                "    viewCount   int not null default 0,\n" +
+                "    status      varchar(10) not null default 'ACTIVE',\n" +
+                "    createdAt   timestamp not null default current_timestamp\n" +
+                ")");
+        jdbcTemplate.execute(
+                "create table BoardStats (\n" +
+                "    boardIdx     int not null primary key,\n" +
+                "    categoryIdx  int not null default 0,\n" +
+                "    likeCount    int not null default 0,\n" +
+                "    quizCount    int not null default 0,\n" +
+                "    commentCount int not null default 0,\n" +
+                "    reportCount  int not null default 0\n" +
+                ")");
+        jdbcTemplate.update("insert into User(nickname) values('writer')");
+
+        boardDao = new BoardDao();
+        boardDao.setDataSource(dataSource);
+        boardStatsDao = new BoardStatsDao();
+        boardStatsDao.setDataSource(dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void boardLikedBeforeStatsRowAppearsInLikeFeed() {
+        int boardIdx = createBoard("stats row from like");
+
+        boardStatsDao.updateLikeCount(boardIdx, 1);
+
+        GetBoardRes board = findInLikeFeed(boardIdx);
+        assertEquals(1, board.getLikeCount());
+    }
+
+    @Test
+    void counterUpsertFillsCategoryOfExistingRow() {
+        int boardIdx = createBoard("stats row without category");
+        // 예전 upsert 가 만든 행 : categoryIdx 가 기본값 0
+        jdbcTemplate.update("insert into BoardStats(boardIdx, commentCount) values(?, 1)", boardIdx);
+
+        boardStatsDao.updateLikeCount(boardIdx, 2);
+
+        GetBoardRes board = findInLikeFeed(boardIdx);
+        assertEquals(2, board.getLikeCount());
+        assertEquals(1, board.getCommentCount());
+    }
+
+    @Test
+    void everyCounterCreatesRowWithCategory() {
+        int quizBoard = createBoard("quiz");
+        int commentBoard = createBoard("comment");
+        int reportBoard = createBoard("report");
+
+        boardStatsDao.updateQuizCount(quizBoard, 1);
+        boardStatsDao.updateCommentCount(commentBoard, 1);
+        boardStatsDao.updateReportCount(reportBoard, 1);
+
+        for (int boardIdx : new int[]{quizBoard, commentBoard, reportBoard}) {
+            assertEquals(CATEGORY_IDX, jdbcTemplate.queryForObject(
+                    "select categoryIdx from BoardStats where boardIdx = ?", Integer.class, boardIdx));
+        }
+    }
+
+    @Test
+    void counterUpsertIgnoresMissingBoard() {
+        assertEquals(0, boardStatsDao.updateLikeCount(Integer.MAX_VALUE, 1));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from BoardStats where boardIdx = ?", Integer.class, Integer.MAX_VALUE));
+    }
+
+    private static int createBoard(String title) {
+        jdbcTemplate.update("insert into Board(userIdx, categoryIdx, title) values(1, ?, ?)", CATEGORY_IDX, title);
+        return jdbcTemplate.queryForObject("select max(boardIdx) from Board", Integer.class);
+    }
+
+    private static GetBoardRes findInLikeFeed(int boardIdx) {
+        List<GetBoardRes> feed = boardDao.getBoardsByCategoryIdxOrderByLike(CATEGORY_IDX, Cursor.first(), 100);
+        GetBoardRes found = feed.stream().filter(board -> board.getBoardIdx() == boardIdx).findFirst().orElse(null);
+        assertTrue(found != null, "boardIdx " + boardIdx + " missing from like feed");
+        return found;
+    }
+}
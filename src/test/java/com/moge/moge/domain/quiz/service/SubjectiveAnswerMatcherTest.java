@@ -0,0 +1,140 @@
+package com.moge.moge.domain.quiz.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주관식 정답 비교 : 정규화, 자모 분해, 숫자 정답, 허용 오타 수, 편집 거리 띠 계산
+ */
+class SubjectiveAnswerMatcherTest {
+
+    private static final int MAX_TYPOS = 2;
+
+    private static SubjectiveAnswerMatcher matcher(boolean decomposeJamo, String... answers) {
+        return new SubjectiveAnswerMatcher(Arrays.asList(answers), decomposeJamo, MAX_TYPOS);
+    }
+
+    @Test
+    void ignoresWhitespaceCasePunctuationAndComposition() {
+        SubjectiveAnswerMatcher matcher = matcher(true, "Hello World", "대한민국");
+
+        assertTrue(matcher.matches("  hello, WORLD!! "));
+        assertTrue(matcher.matches(Normalizer.normalize("대한 민국", Normalizer.Form.NFD)));
+    }
+
+    @Test
+    void answerEmptyAfterStrippingNeverMatches() {
+        SubjectiveAnswerMatcher onlyPunctuation = matcher(true, "!!!", " ");
+        assertFalse(onlyPunctuation.matches("!!!"));
+        assertFalse(onlyPunctuation.matches(""));
+        assertFalse(onlyPunctuation.matches(null));
+
+        // 빈 키로 정규화되는 정답이 섞여 있어도 나머지 정답은 그대로
+        SubjectiveAnswerMatcher mixed = matcher(true, "?!", "사과");
+        assertTrue(mixed.matches("사과"));
+        assertFalse(mixed.matches("?!"));
+        assertFalse(mixed.matches("..."));
+    }
+
+    @Test
+    void answerWithDigitsMustMatchExactly() {
+        SubjectiveAnswerMatcher matcher = matcher(true, "1945년 8월 15일 광복절");
+
+        assertTrue(matcher.matches("1945년8월15일 광복절"));
+        assertFalse(matcher.matches("1946년 8월 15일 광복절"));
+        assertFalse(matcher.matches("1945년 8월 15일 광복잘"));
+    }
+
+    @Test
+    void typoBudgetCountsSyllablesBeforeDecomposition() {
+        // 4 글자 이하 : 오타 허용 없음 (자모로는 6 ~ 12 글자여도)
+        assertFalse(matcher(true, "사자").matches("사과"));
+        assertFalse(matcher(true, "대한민국").matches("대한민극"));
+
+        // 5 글자 : 1 개
+        SubjectiveAnswerMatcher fiveSyllables = matcher(true, "아이스크림");
+        assertTrue(fiveSyllables.matches("아이스크린"));
+        assertFalse(fiveSyllables.matches("아이스그린"));
+
+        // 10 글자 이상 : 최대 MAX_TYPOS 개
+        SubjectiveAnswerMatcher longAnswer = matcher(true, "가나다라마바사아자차카타파하");
+        assertTrue(longAnswer.matches("가나다라마바사아자차카타파허"));
+        assertTrue(longAnswer.matches("거나다라마바사아자차카타파허"));
+        assertFalse(longAnswer.matches("거너다라마바사아자차카타파허"));
+    }
+
+    @Test
+    void jamoDecompositionCountsTyposPerJamo() {
+        // 받침 하나 차이는 자모 한 개
+        assertTrue(matcher(true, "아이스크림").matches("아이스크리"));
+        // 음절 하나를 통째로 바꾸면 자모로는 세 개 차이 -> 분해했을 때만 거절
+        assertFalse(matcher(true, "대한민국만세").matches("대한민밥만세"));
+        assertTrue(matcher(false, "대한민국만세").matches("대한민밥만세"));
+    }
+
+    @Test
+    void bandedDistanceAgreesWithFullLevenshtein() {
+        Random random = new Random(42);
+        char[] alphabet = {'a', 'b', 'c'};
+        for (int round = 0; round < 20000; round++) {
+            char[] a = randomChars(random, alphabet, random.nextInt(9));
+            char[] b = randomChars(random, alphabet, random.nextInt(9));
+            int distance = levenshtein(a, b);
+            for (int limit = 0; limit <= 4; limit++) {
+                assertEquals(distance <= limit, SubjectiveAnswerMatcher.withinDistance(a, b, limit),
+                        new String(a) + " / " + new String(b) + " limit " + limit);
+            }
+        }
+    }
+
+    @Test
+    void bandedDistanceHandlesEmptyAndLengthGap() {
+        char[] empty = new char[0];
+        assertTrue(SubjectiveAnswerMatcher.withinDistance(empty, empty, 0));
+        assertTrue(SubjectiveAnswerMatcher.withinDistance(empty, "ab".toCharArray(), 2));
+        assertFalse(SubjectiveAnswerMatcher.withinDistance(empty, "abc".toCharArray(), 2));
+        assertFalse(SubjectiveAnswerMatcher.withinDistance("abcdef".toCharArray(), "abc".toCharArray(), 2));
+        assertTrue(SubjectiveAnswerMatcher.withinDistance("abcdef".toCharArray(), "abcxef".toCharArray(), 1));
+    }
+
+    @Test
+    void duplicateAnswersAreKeptOnce() {
+        SubjectiveAnswerMatcher matcher = new SubjectiveAnswerMatcher(
+                Arrays.asList("아이스크림", "아이스 크림", null), true, MAX_TYPOS);
+        assertTrue(matcher.matches("아이스크림"));
+        assertFalse(new SubjectiveAnswerMatcher(Collections.emptyList(), true, MAX_TYPOS).matches("아이스크림"));
+    }
+
+    private static char[] randomChars(Random random, char[] alphabet, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return chars;
+    }
+
+    private static int levenshtein(char[] a, char[] b) {
+        int[][] distance = new int[a.length + 1][b.length + 1];
+        for (int i = 0; i <= a.length; i++) {
+            distance[i][0] = i;
+        }
+        for (int j = 0; j <= b.length; j++) {
+            distance[0][j] = j;
+        }
+        for (int i = 1; i <= a.length; i++) {
+            for (int j = 1; j <= b.length; j++) {
+                int substitute = distance[i - 1][j - 1] + (a[i - 1] == b[j - 1] ? 0 : 1);
+                distance[i][j] = Math.min(substitute, Math.min(distance[i - 1][j], distance[i][j - 1]) + 1);
+            }
+        }
+        return distance[a.length][b.length];
+    }
+}